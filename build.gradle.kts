@@ -3,6 +3,7 @@ plugins {
 	id("org.springframework.boot") version "3.5.6"
 	id("io.spring.dependency-management") version "1.1.7"
     id("com.github.spotbugs") version "6.4.2"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.clean"
@@ -28,15 +29,23 @@ repositories {
 val mockiteAgent: Configuration = configurations.create("mockiteAgent")
 
 dependencies {
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.security:spring-security-core")
+	implementation("org.bouncycastle:bcprov-jdk18on:1.80")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.github.ben-manes.caffeine:jcache")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("org.hibernate.orm:hibernate-micrometer")
 
 	compileOnly("org.projectlombok:lombok")
 	developmentOnly("org.springframework.boot:spring-boot-docker-compose")
 	runtimeOnly("com.h2database:h2")
 	runtimeOnly("com.mysql:mysql-connector-j")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
 	annotationProcessor("org.projectlombok:lombok")
 	testAnnotationProcessor("org.projectlombok:lombok")
@@ -48,6 +57,9 @@ dependencies {
 	testImplementation("org.mockito:mockito-core:5.18.0")
 	testImplementation("com.tngtech.archunit:archunit-junit5:1.4.1")
 	mockiteAgent("org.mockito:mockito-core:5.18.0") { isTransitive = false }
+
+	jmhImplementation("org.springframework.boot:spring-boot-starter-test")
+	jmhRuntimeOnly("com.h2database:h2")
 }
 
 tasks.withType<Test> {
@@ -55,6 +67,91 @@ tasks.withType<Test> {
 	jvmArgs("-javaagent:${mockiteAgent.asPath}")
 }
 
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("load")
+	}
+}
+
+// 플랫폼 스레드와 가상 스레드 모드의 처리량, p99 비교. 캐리어 스레드 고정이 일어나면 스택이 출력된다.
+tasks.register<Test>("loadTest") {
+	group = "verification"
+	description = "부하 테스트(@Tag(\"load\"))를 실행한다."
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	jvmArgs("-Djdk.tracePinnedThreads=short")
+	testLogging.showStandardStreams = true
+	shouldRunAfter(tasks.test)
+}
+
 spotbugs {
 	excludeFilter.set(file("${projectDir}/spotbugs-exclude-filter.xml"))
-}
\ No newline at end of file
+}
+
+// ./gradlew jmh [-PjmhIncludes=EmailBenchmark] 결과는 build/results/jmh/results.json (JMH JSON) 에 남는다.
+// ./gradlew jmhSaveBaseline 으로 결과를 기준선으로 저장하고, ./gradlew jmhCompare [-PjmhThreshold=0.1] 로 비교한다.
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("src/jmh/baseline.json")
+
+jmh {
+	jmhVersion = "1.37"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	resultsFile = jmhResults
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
+
+tasks.matching { it.name == "spotbugsJmh" }.configureEach {
+	enabled = false
+}
+
+tasks.register<Copy>("jmhSaveBaseline") {
+	group = "benchmark"
+	description = "마지막 JMH 결과를 기준선(src/jmh/baseline.json)으로 저장한다."
+	from(jmhResults)
+	into(jmhBaseline.asFile.parentFile)
+	rename { jmhBaseline.asFile.name }
+}
+
+tasks.register("jmhCompare") {
+	group = "benchmark"
+	description = "마지막 JMH 결과를 기준선과 비교하고, 기준선보다 threshold 이상 나빠진 벤치마크가 있으면 실패한다."
+	val resultsFile = jmhResults.get().asFile
+	val baselineFile = jmhBaseline.asFile
+	val threshold = providers.gradleProperty("jmhThreshold").map(String::toDouble).orElse(0.1)
+	val comparisonFile = layout.buildDirectory.file("results/jmh/comparison.json").get().asFile
+
+	doLast {
+		@Suppress("UNCHECKED_CAST")
+		fun load(file: File): Map<String, Map<String, Any?>> =
+			(groovy.json.JsonSlurper().parse(file) as List<Map<String, Any?>>)
+				.associateBy { "${it["benchmark"]}${it["params"] ?: ""}" }
+
+		if (!baselineFile.exists()) throw GradleException("기준선이 없습니다. 먼저 jmhSaveBaseline 을 실행하세요: $baselineFile")
+
+		val baseline = load(baselineFile)
+		val comparisons = load(resultsFile).map { (key, result) ->
+			@Suppress("UNCHECKED_CAST")
+			fun score(entry: Map<String, Any?>) = ((entry["primaryMetric"] as Map<String, Any?>)["score"] as Number).toDouble()
+
+			val current = score(result)
+			val base = baseline[key]?.let(::score)
+			// thrpt 는 클수록, 나머지(avgt, sample, ss)는 작을수록 좋다
+			val change = base?.let { if (result["mode"] == "thrpt") (it - current) / it else (current - it) / it }
+			mapOf("benchmark" to key, "mode" to result["mode"], "baseline" to base, "current" to current, "regression" to change)
+		}
+
+		comparisonFile.writeText(groovy.json.JsonOutput.prettyPrint(groovy.json.JsonOutput.toJson(comparisons)))
+		comparisons.forEach { println("%-90s %12s -> %12.3f %s".format(it["benchmark"], it["baseline"] ?: "-", it["current"], it["regression"]?.let { r -> "%+.1f%%".format((r as Double) * 100) } ?: "new")) }
+
+		val regressions = comparisons.filter { (it["regression"] as Double?)?.let { r -> r > threshold.get() } ?: false }
+		if (regressions.isNotEmpty()) {
+			throw GradleException("기준선보다 ${threshold.get() * 100}% 이상 나빠진 벤치마크: ${regressions.map { it["benchmark"] }}")
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.clean.splearn;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트. 인메모리 H2 를 쓰고, 측정에 끼어드는 백그라운드 작업은 끈다.
+ */
+public final class BenchmarkContext {
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(SplearnApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "splearn.outbox.relay.enabled=false"
+                )
+                .run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.domain.member.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * MemberApi 의 JSON 요청 읽기, 검증, 응답 쓰기 비용. 애플리케이션 서비스는 고정된 회원을 돌려주는 stub 이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MemberApiBenchmark {
+    private MockMvc mockMvc;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Member member = Member.register(new MemberRegisterRequest("jsjangdv@gmail.com", "jsjang", "verysecret"),
+                new StubPasswordEncoder());
+        ReflectionTestUtils.setField(member, "id", 1L);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new MemberApi(new FixedMemberRegister(member), null,
+                        new IdempotencyStore(new IdempotencyProperties(1000, Duration.ofMinutes(1))), null))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+        requestJson = objectMapper.writeValueAsBytes(
+                new MemberRegisterRequest("jsjangdv@gmail.com", "jsjang", "verysecret"));
+    }
+
+    @Benchmark
+    public String register() throws Exception {
+        return mockMvc.perform(post("/api/members").contentType(MediaType.APPLICATION_JSON).content(requestJson))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private record FixedMemberRegister(Member member) implements MemberRegister {
+        @Override
+        public Member register(MemberRegisterRequest registerRequest) {
+            return member;
+        }
+
+        @Override
+        public List<MemberRegisterResult> registerAll(List<MemberRegisterRequest> registerRequests) {
+            return registerRequests.stream().map(request -> MemberRegisterResult.success(member)).toList();
+        }
+
+        @Override
+        public Member activate(Long memberId) {
+            return member;
+        }
+
+        @Override
+        public Member deactivate(Long memberId) {
+            return member;
+        }
+
+        @Override
+        public Member updateInfo(Long memberId, MemberInfoUpdateRequest memberInfoUpdateRequest) {
+            return member;
+        }
+
+        @Override
+        public Member updateInfo(Long memberId, long expectedVersion, MemberInfoUpdateRequest memberInfoUpdateRequest) {
+            return member;
+        }
+    }
+}
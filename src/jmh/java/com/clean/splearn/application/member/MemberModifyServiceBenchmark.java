@@ -0,0 +1,55 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.BenchmarkContext;
+import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberInfoUpdateRequest;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * H2 위에서 회원 등록, 정보 수정 한 건의 비용(트랜잭션, 중복 확인, 해싱, 이벤트 기록 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MemberModifyServiceBenchmark {
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private MemberRegister memberRegister;
+    private Long memberId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        memberRegister = context.getBean(MemberRegister.class);
+
+        Member member = memberRegister.register(new MemberRegisterRequest("update@splearn.app", "update", "verysecret"));
+        memberId = member.getId();
+        memberRegister.activate(memberId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Member register() {
+        long n = sequence.incrementAndGet();
+
+        return memberRegister.register(new MemberRegisterRequest("bench" + n + "@splearn.app", "bench" + n, "verysecret"));
+    }
+
+    @Benchmark
+    public Member updateInfo() {
+        long n = sequence.incrementAndGet();
+
+        return memberRegister.updateInfo(memberId, new MemberInfoUpdateRequest("update" + n, "p" + n, "자기소개"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.clean.splearn.domain;
+
+import com.clean.splearn.BenchmarkContext;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.member.StubPasswordEncoder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.proxy.HibernateProxy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AbstractEntity.equals/hashCode 비용. 엔티티끼리, Hibernate 프록시와 엔티티를 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AbstractEntityBenchmark {
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private EntityManager otherEntityManager;
+
+    private Member entity;
+    private Member otherEntity;
+    private Member proxy;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        Member member = Member.register(new MemberRegisterRequest("proxy@splearn.app", "proxy", "verysecret"),
+                new StubPasswordEncoder());
+        entityManager.persist(member);
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+
+        proxy = entityManager.getReference(Member.class, member.getId());
+        if (!(proxy instanceof HibernateProxy)) throw new IllegalStateException("프록시가 아닙니다: " + proxy.getClass());
+
+        otherEntityManager = entityManagerFactory.createEntityManager();
+        entity = otherEntityManager.find(Member.class, member.getId());
+        otherEntityManager.clear();
+        otherEntity = otherEntityManager.find(Member.class, member.getId());
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        otherEntityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public boolean equalsEntity() {
+        return entity.equals(otherEntity);
+    }
+
+    @Benchmark
+    public boolean equalsProxy() {
+        return proxy.equals(entity);
+    }
+
+    @Benchmark
+    public int hashCodeEntity() {
+        return entity.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeProxy() {
+        return proxy.hashCode();
+    }
+}
@@ -0,0 +1,49 @@
+package com.clean.splearn.domain;
+
+import com.clean.splearn.domain.member.Profile;
+import com.clean.splearn.domain.shared.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email, Profile 생성(형식 검증) 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EmailProfileBenchmark {
+    @Param({"jsjangdv@gmail.com", "first.last+tag@mail.splearn.co.kr"})
+    public String email;
+
+    @Param({"jsjang", "a1b2c3d4e5f6g7h"})
+    public String profile;
+
+    @Benchmark
+    public Email validEmail() {
+        return new Email(email);
+    }
+
+    @Benchmark
+    public Object invalidEmail() {
+        try {
+            return new Email(email + "@");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Profile validProfile() {
+        return new Profile(profile);
+    }
+
+    @Benchmark
+    public Object invalidProfile() {
+        try {
+            return new Profile(profile + "-");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.clean.splearn.domain.member;
+
+import com.clean.splearn.adapter.security.PasswordHashingProperties;
+import com.clean.splearn.adapter.security.SecurePasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Member.register() 비용. stub 은 도메인 로직만, secure 는 실제 해싱(기본 설정)까지 포함한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MemberRegisterBenchmark {
+    @Param({"stub", "secure"})
+    public String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private final MemberRegisterRequest request =
+            new MemberRegisterRequest("jsjangdv@gmail.com", "jsjang", "verysecret");
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = encoder.equals("secure") ? new SecurePasswordEncoder(PasswordHashingProperties.defaults(), new SimpleMeterRegistry()) : new StubPasswordEncoder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (passwordEncoder instanceof SecurePasswordEncoder secure) secure.shutdown();
+    }
+
+    @Benchmark
+    public Member register() {
+        return Member.register(request, passwordEncoder);
+    }
+}
@@ -0,0 +1,16 @@
+package com.clean.splearn.domain.member;
+
+/**
+ * 해싱 비용을 빼고 도메인 로직만 재기 위한 인코더
+ */
+public class StubPasswordEncoder implements PasswordEncoder {
+    @Override
+    public String encode(String password) {
+        return password.toUpperCase();
+    }
+
+    @Override
+    public boolean matches(String password, String passwordHash) {
+        return encode(password).equals(passwordHash);
+    }
+}
@@ -1,9 +1,21 @@
 package com.clean.splearn.adapter;
 
+import com.clean.splearn.adapter.security.PasswordHashingBusyException;
+import com.clean.splearn.adapter.webapi.IdempotencyKeyReusedException;
+import com.clean.splearn.adapter.webapi.PreconditionRequiredException;
+import com.clean.splearn.application.member.provided.LoginThrottledException;
+import com.clean.splearn.application.member.provided.MemberAsyncBusyException;
+import com.clean.splearn.application.member.provided.MemberBulkRegisterLimitExceededException;
+import com.clean.splearn.application.member.provided.MemberAuthenticationException;
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
+import com.clean.splearn.application.member.provided.MemberVersionConflictException;
 import com.clean.splearn.domain.member.DuplicateEmailException;
 import com.clean.splearn.domain.member.DuplicateProfileException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
@@ -23,10 +35,62 @@ public class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     }
 
     @ExceptionHandler(DuplicateProfileException.class)
-    public ProblemDetail profileExceptionHandler(DuplicateEmailException exception) {
+    public ProblemDetail profileExceptionHandler(DuplicateProfileException exception) {
         return getProblemDetail(HttpStatus.CONFLICT, exception);
     }
 
+    @ExceptionHandler(MemberBulkRegisterLimitExceededException.class)
+    public ProblemDetail memberBulkRegisterLimitExceededExceptionHandler(MemberBulkRegisterLimitExceededException exception) {
+        return getProblemDetail(HttpStatus.BAD_REQUEST, exception);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ProblemDetail idempotencyKeyReusedExceptionHandler(IdempotencyKeyReusedException exception) {
+        return getProblemDetail(HttpStatus.UNPROCESSABLE_ENTITY, exception);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ProblemDetail passwordHashingBusyExceptionHandler(PasswordHashingBusyException exception) {
+        return getProblemDetail(HttpStatus.SERVICE_UNAVAILABLE, exception);
+    }
+
+    @ExceptionHandler(MemberAsyncBusyException.class)
+    public ProblemDetail memberAsyncBusyExceptionHandler(MemberAsyncBusyException exception) {
+        return getProblemDetail(HttpStatus.SERVICE_UNAVAILABLE, exception);
+    }
+
+    @ExceptionHandler(MemberNotFoundException.class)
+    public ProblemDetail memberNotFoundExceptionHandler(MemberNotFoundException exception) {
+        return getProblemDetail(HttpStatus.NOT_FOUND, exception);
+    }
+
+    @ExceptionHandler(MemberVersionConflictException.class)
+    public ProblemDetail memberVersionConflictExceptionHandler(MemberVersionConflictException exception) {
+        return getProblemDetail(HttpStatus.PRECONDITION_FAILED, exception);
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ProblemDetail preconditionRequiredExceptionHandler(PreconditionRequiredException exception) {
+        return getProblemDetail(HttpStatus.PRECONDITION_REQUIRED, exception);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail optimisticLockingFailureExceptionHandler(OptimisticLockingFailureException exception) {
+        return getProblemDetail(HttpStatus.CONFLICT, exception);
+    }
+
+    @ExceptionHandler(MemberAuthenticationException.class)
+    public ProblemDetail authenticationExceptionHandler(MemberAuthenticationException exception) {
+        return getProblemDetail(HttpStatus.UNAUTHORIZED, exception);
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ProblemDetail> loginThrottledExceptionHandler(LoginThrottledException exception) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+                .body(getProblemDetail(HttpStatus.TOO_MANY_REQUESTS, exception));
+    }
+
     private ProblemDetail getProblemDetail(HttpStatus status, Exception exception) {
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, exception.getMessage());
 
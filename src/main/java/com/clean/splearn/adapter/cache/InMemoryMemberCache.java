@@ -0,0 +1,59 @@
+package com.clean.splearn.adapter.cache;
+
+import com.clean.splearn.application.member.MemberCacheProperties;
+import com.clean.splearn.application.member.required.MemberCache;
+import com.clean.splearn.domain.member.MemberSummary;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.Nullable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 공유 캐시(L2) 자리를 대신하는 프로세스 안 캐시. 로컬 실행과 테스트에서 L2 경로를 확인하는 데 쓴다.
+ * 지운 자리에는 tombstoneTtl 동안 빈 항목을 남겨 그 사이 끝난 예전 조회가 다시 담기지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "splearn.member.cache.shared", name = "enabled", havingValue = "true")
+public class InMemoryMemberCache implements MemberCache {
+    private final Cache<Long, Entry> cache;
+
+    public InMemoryMemberCache(MemberCacheProperties properties) {
+        Duration ttl = properties.shared().ttl();
+        Duration tombstoneTtl = properties.shared().tombstoneTtl();
+
+        this.cache = Caffeine.newBuilder()
+                .expireAfter(Expiry.writing((Long memberId, Entry entry) -> entry.isTombstone() ? tombstoneTtl : ttl))
+                .build();
+    }
+
+    @Override
+    public Optional<MemberSummary> get(Long memberId) {
+        Entry entry = cache.getIfPresent(memberId);
+
+        return entry == null ? Optional.empty() : Optional.ofNullable(entry.member());
+    }
+
+    @Override
+    public void putIfAbsent(MemberSummary member) {
+        cache.asMap().putIfAbsent(Objects.requireNonNull(member.id()), new Entry(member));
+    }
+
+    @Override
+    public void evict(Long memberId) {
+        cache.put(memberId, Entry.TOMBSTONE);
+    }
+
+    private record Entry(@Nullable MemberSummary member) {
+        static final Entry TOMBSTONE = new Entry(null);
+
+        boolean isTombstone() {
+            return member == null;
+        }
+    }
+}
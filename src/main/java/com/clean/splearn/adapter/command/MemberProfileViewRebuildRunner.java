@@ -0,0 +1,24 @@
+package com.clean.splearn.adapter.command;
+
+import com.clean.splearn.application.member.MemberProfileProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * --splearn.member.profile-view.rebuild=true 로 기동하면 공개 프로필 읽기 모델을 다시 만든다.
+ * 읽기 모델을 처음 도입했거나, 이벤트 처리 오류로 어긋났을 때 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "splearn.member.profile-view", name = "rebuild", havingValue = "true")
+public class MemberProfileViewRebuildRunner implements ApplicationRunner {
+    private final MemberProfileProjection memberProfileProjection;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        memberProfileProjection.rebuild();
+    }
+}
@@ -0,0 +1,196 @@
+package com.clean.splearn.adapter.integration;
+
+import com.clean.splearn.application.member.required.EmailSender;
+import com.clean.splearn.domain.shared.Email;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 메일을 큐에 쌓아 두고 워커 스레드에서 배치 단위로 발송한다.
+ * 트랜잭션 안에서 {@link #send} 로 요청된 메일은 커밋 이후에만 큐에 들어간다.
+ * 큐가 가득 차면 호출 스레드에서 발송하지 않고 메일을 버린다. 아웃박스를 거친 메일은 릴레이가 다시 시도한다.
+ */
+@Slf4j
+public class BatchingEmailSender implements EmailSender, SmartLifecycle {
+    private final EmailSender delegate;
+    private final EmailDispatchProperties properties;
+    private final BlockingQueue<EmailMessage> queue;
+    private final Timer flushTimer;
+    private final Counter rejectedCounter;
+    private final Counter failureCounter;
+
+    private volatile boolean running;
+    private List<Thread> workers = List.of();
+
+    public BatchingEmailSender(EmailSender delegate, EmailDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Gauge.builder("splearn.email.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("splearn.email.flush")
+                .description("배치 한 번을 발송하는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("splearn.email.queue.rejected")
+                .description("큐가 가득 차서 발송하지 못한 메일 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("splearn.email.failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void send(Email email, String subject, String body) {
+        EmailMessage message = new EmailMessage(email, subject, body, new CompletableFuture<>());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(message);
+                }
+            });
+            return;
+        }
+
+        enqueue(message);
+    }
+
+    /**
+     * 트랜잭션과 상관없이 바로 큐에 넣는다. 워커가 발송을 마치면 돌려준 결과가 완료되고, 실패하면 그 예외로 끝난다.
+     */
+    @Override
+    public CompletableFuture<Void> sendAsync(Email email, String subject, String body) {
+        EmailMessage message = new EmailMessage(email, subject, body, new CompletableFuture<>());
+        enqueue(message);
+
+        return message.result();
+    }
+
+    private void enqueue(EmailMessage message) {
+        try {
+            if (running && queue.offer(message, properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        rejectedCounter.increment();
+        log.warn("메일 발송 큐가 가득 차서 메일을 버립니다: {}", message.email());
+        message.result().completeExceptionally(new RejectedExecutionException("메일 발송 큐가 가득 찼습니다"));
+    }
+
+    private void dispatchLoop() {
+        List<EmailMessage> batch = new ArrayList<>(properties.batchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                EmailMessage first = queue.poll(properties.flushInterval().toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                fillBatch(batch);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillBatch(List<EmailMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.flushInterval().toNanos();
+
+        while (batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            if (batch.size() >= properties.batchSize()) return;
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return;
+
+            EmailMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private void deliver(List<EmailMessage> batch) {
+        flushTimer.record(() -> batch.forEach(this::deliver));
+    }
+
+    private void deliver(EmailMessage message) {
+        try {
+            delegate.send(message.email(), message.subject(), message.body());
+            message.result().complete(null);
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("메일 발송에 실패했습니다: {}", message.email(), e);
+            message.result().completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        Thread.Builder builder = properties.virtualThreads()
+                ? Thread.ofVirtual().name("email-dispatch-", 0)
+                : Thread.ofPlatform().daemon().name("email-dispatch-", 0);
+
+        running = true;
+        workers = IntStream.range(0, properties.workers())
+                .mapToObj(i -> builder.start(this::dispatchLoop))
+                .toList();
+    }
+
+    /**
+     * 새 메일을 받지 않고, 큐에 남은 메일을 shutdownTimeout 까지 발송한 뒤 종료한다.
+     * 그때까지 발송하지 못한 메일은 실패로 알린다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + properties.shutdownTimeout().toNanos();
+
+        for (Thread worker : workers) {
+            try {
+                worker.join(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        List<EmailMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (remaining.isEmpty()) return;
+
+        log.warn("종료 시간이 지나 메일 {}건을 발송하지 못했습니다", remaining.size());
+        remaining.forEach(message -> message.result().completeExceptionally(new RejectedExecutionException("메일 발송기가 종료되었습니다")));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    record EmailMessage(Email email, String subject, String body, CompletableFuture<Void> result) {
+    }
+}
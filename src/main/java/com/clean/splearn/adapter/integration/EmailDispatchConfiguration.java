@@ -0,0 +1,17 @@
+package com.clean.splearn.adapter.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class EmailDispatchConfiguration {
+    @Bean
+    @Primary
+    public BatchingEmailSender batchingEmailSender(DummyEmailSender dummyEmailSender,
+                                                   EmailDispatchProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        return new BatchingEmailSender(dummyEmailSender, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.clean.splearn.adapter.integration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 이메일 비동기 발송 설정
+ *
+ * @param queueCapacity   발송 대기 큐의 최대 크기
+ * @param workers         큐를 소비하는 워커 스레드 수
+ * @param virtualThreads  워커를 가상 스레드로 실행할지 여부
+ * @param batchSize       한 번에 발송하는 최대 메일 수
+ * @param flushInterval   배치가 차지 않아도 발송하는 최대 대기 시간
+ * @param offerTimeout    큐가 가득 찼을 때 호출 스레드가 기다리는 시간. 초과하면 메일을 버리고 실패로 알린다
+ * @param shutdownTimeout 종료할 때 워커가 남은 메일을 발송하기를 기다리는 최대 시간
+ */
+@ConfigurationProperties("splearn.email.dispatch")
+public record EmailDispatchProperties(
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("2") int workers,
+        @DefaultValue("false") boolean virtualThreads,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("100ms") Duration offerTimeout,
+        @DefaultValue("10s") Duration shutdownTimeout
+) {
+}
@@ -0,0 +1,119 @@
+package com.clean.splearn.adapter.metrics;
+
+import com.clean.splearn.application.member.provided.LoginThrottledException;
+import com.clean.splearn.application.member.provided.MemberAuthenticationException;
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
+import com.clean.splearn.application.member.provided.MemberVersionConflictException;
+import com.clean.splearn.domain.member.DuplicateEmailException;
+import com.clean.splearn.domain.member.DuplicateProfileException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 유스케이스(provided)와 포트(required, PasswordEncoder)의 호출 시간을 결과별로 잰다.
+ * <ul>
+ *     <li>splearn.member.usecase: port, operation, class,
+ *     outcome(success, duplicate, not_found, invalid, unauthorized, throttled, error)</li>
+ *     <li>splearn.member.port: port, operation, outcome(success, error)</li>
+ * </ul>
+ * 태그 값은 인터페이스와 메서드 이름, 구현 클래스 이름으로만 만들어 개수가 늘지 않는다.
+ * 트랜잭션보다 바깥에서 재므로 유스케이스 시간에는 커밋까지 포함된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MemberMetricsAspect {
+    static final String USE_CASE_TIMER = "splearn.member.usecase";
+    static final String PORT_TIMER = "splearn.member.port";
+
+    private final MeterRegistry meterRegistry;
+
+    public MemberMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.clean.splearn.application.member.provided.MemberRegister.*(..))")
+    public Object memberRegister(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeUseCase("MemberRegister", joinPoint);
+    }
+
+    @Around("execution(* com.clean.splearn.application.member.provided.MemberFinder.*(..))")
+    public Object memberFinder(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeUseCase("MemberFinder", joinPoint);
+    }
+
+    @Around("execution(* com.clean.splearn.application.member.provided.MemberAuthenticator.*(..))")
+    public Object memberAuthenticator(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeUseCase("MemberAuthenticator", joinPoint);
+    }
+
+    @Around("execution(* com.clean.splearn.application.member.required.MemberRepository.*(..))")
+    public Object memberRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePort("MemberRepository", joinPoint);
+    }
+
+    @Around("execution(* com.clean.splearn.application.member.required.EmailSender.*(..))")
+    public Object emailSender(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePort("EmailSender", joinPoint);
+    }
+
+    @Around("execution(* com.clean.splearn.domain.member.PasswordEncoder.*(..))")
+    public Object passwordEncoder(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePort("PasswordEncoder", joinPoint);
+    }
+
+    private Object timeUseCase(String port, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(USE_CASE_TIMER)
+                    .tag("port", port)
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("class", joinPoint.getTarget().getClass().getSimpleName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private Object timePort(String port, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(PORT_TIMER)
+                    .tag("port", port)
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof DuplicateEmailException || e instanceof DuplicateProfileException) return "duplicate";
+        if (e instanceof MemberNotFoundException) return "not_found";
+        if (e instanceof MemberAuthenticationException) return "unauthorized";
+        if (e instanceof LoginThrottledException) return "throttled";
+        if (e instanceof MemberVersionConflictException || e instanceof OptimisticLockingFailureException) return "conflict";
+        if (e instanceof ConstraintViolationException || e instanceof IllegalArgumentException) return "invalid";
+        return "error";
+    }
+}
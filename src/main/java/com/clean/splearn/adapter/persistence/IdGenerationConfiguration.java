@@ -0,0 +1,22 @@
+package com.clean.splearn.adapter.persistence;
+
+import com.clean.splearn.domain.SplearnIdGenerator;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * splearn.id 설정을 Hibernate 설정으로 넘겨 SplearnIdGenerator 가 읽을 수 있게 한다.
+ */
+@Configuration
+public class IdGenerationConfiguration {
+    @Bean
+    public HibernatePropertiesCustomizer idGenerationPropertiesCustomizer(IdGenerationProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(SplearnIdGenerator.STRATEGY_SETTING, properties.strategy().name());
+            if (properties.node() != null) {
+                hibernateProperties.put(SplearnIdGenerator.NODE_SETTING, properties.node());
+            }
+        };
+    }
+}
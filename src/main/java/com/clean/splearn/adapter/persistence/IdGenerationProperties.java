@@ -0,0 +1,31 @@
+package com.clean.splearn.adapter.persistence;
+
+import com.clean.splearn.domain.IdStrategy;
+import com.clean.splearn.domain.SplearnIdGenerator;
+import jakarta.annotation.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+/**
+ * 엔티티 ID 생성 설정
+ *
+ * @param strategy ID 생성 방식
+ * @param node     TIME_ORDERED 에서 인스턴스를 구분하는 번호(0 ~ 1023). TIME_ORDERED 면 반드시 지정해야 한다.
+ *                 여러 인스턴스를 띄울 때는 서로 다른 값을 지정해야 ID 가 겹치지 않는다.
+ *                 TIME_ORDERED ID 는 2^53 보다 커서 JavaScript 의 number 로는 정확히 다룰 수 없다.
+ *                 API 의 ID 는 JSON 숫자로 나가므로, 브라우저 클라이언트는 BigInt 로 읽도록 파싱해야 한다
+ */
+@ConfigurationProperties("splearn.id")
+public record IdGenerationProperties(
+        @DefaultValue("SEQUENCE") IdStrategy strategy,
+        @Nullable Integer node
+) {
+    public IdGenerationProperties {
+        if (strategy == IdStrategy.TIME_ORDERED) {
+            Assert.notNull(node, "splearn.id.strategy 가 TIME_ORDERED 면 splearn.id.node 를 지정해야 합니다");
+            Assert.isTrue(node >= 0 && node <= SplearnIdGenerator.MAX_NODE,
+                    "splearn.id.node 는 0 이상 " + SplearnIdGenerator.MAX_NODE + " 이하여야 합니다: " + node);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.clean.splearn.adapter.persistence;
+
+import com.clean.splearn.application.member.required.MemberNaturalIdRepository;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.shared.Email;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * Spring Data 가 MemberRepository 의 조각(fragment)으로 연결하는 구현
+ */
+public class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Member> findByNaturalId(Email email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(email);
+    }
+}
@@ -0,0 +1,26 @@
+package com.clean.splearn.adapter.scheduling;
+
+import com.clean.splearn.application.member.MemberEventRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적으로 아웃박스를 비운다. 여러 노드에서 동시에 실행되어도 같은 이벤트를 두 번 전달하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "splearn.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MemberEventRelayScheduler {
+    private final MemberEventRelay memberEventRelay;
+    private final OutboxRelayProperties properties;
+
+    @Scheduled(fixedDelayString = "${splearn.outbox.relay.poll-interval:PT1S}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = memberEventRelay.relay(properties.batchSize());
+        } while (relayed == properties.batchSize());
+    }
+}
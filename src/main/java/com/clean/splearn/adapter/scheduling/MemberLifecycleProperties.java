@@ -0,0 +1,26 @@
+package com.clean.splearn.adapter.scheduling;
+
+import jakarta.annotation.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 회원 상태 일괄 변경 설정
+ *
+ * @param enabled         스케줄 실행 여부
+ * @param cron            실행 주기
+ * @param chunkSize       한 트랜잭션에서 잠그고 바꾸는 회원 수. 작을수록 잠금이 짧다
+ * @param pendingTtl      가입 후 이 기간 안에 활성화하지 않으면 만료시킨다
+ * @param deactivateAfter 가입 후 이 기간이 지난 활성 회원을 비활성화한다. 비워 두면 하지 않는다
+ */
+@ConfigurationProperties("splearn.member.lifecycle")
+public record MemberLifecycleProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 0 3 * * *") String cron,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("P7D") Duration pendingTtl,
+        @Nullable Duration deactivateAfter
+) {
+}
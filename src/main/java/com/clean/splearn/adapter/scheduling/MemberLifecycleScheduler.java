@@ -0,0 +1,51 @@
+package com.clean.splearn.adapter.scheduling;
+
+import com.clean.splearn.application.member.MemberLifecycleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 정해진 시각에 기한이 지난 회원을 청크 단위로 만료시키거나 비활성화한다.
+ * 청크마다 커밋하므로 회원 테이블을 오래 잠그지 않고, 여러 노드에서 동시에 실행되어도 청크가 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "splearn.member.lifecycle", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MemberLifecycleScheduler {
+    private final MemberLifecycleService memberLifecycleService;
+    private final MemberLifecycleProperties properties;
+
+    @Scheduled(cron = "${splearn.member.lifecycle.cron:0 0 3 * * *}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        int chunkSize = properties.chunkSize();
+
+        LocalDateTime pendingBefore = now.minus(properties.pendingTtl());
+        int expired = drain(() -> memberLifecycleService.expirePending(pendingBefore, chunkSize));
+        log.info("expired {} pending members registered before {}", expired, pendingBefore);
+
+        if (properties.deactivateAfter() == null) return;
+
+        LocalDateTime activeBefore = now.minus(properties.deactivateAfter());
+        int deactivated = drain(() -> memberLifecycleService.deactivateActive(activeBefore, chunkSize));
+        log.info("deactivated {} active members registered before {}", deactivated, activeBefore);
+    }
+
+    private int drain(IntSupplier chunk) {
+        int total = 0;
+        int changed;
+        do {
+            changed = chunk.getAsInt();
+            total += changed;
+        } while (changed == properties.chunkSize());
+
+        return total;
+    }
+}
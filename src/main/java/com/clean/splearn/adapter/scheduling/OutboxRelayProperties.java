@@ -0,0 +1,21 @@
+package com.clean.splearn.adapter.scheduling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 릴레이 설정
+ *
+ * @param enabled      릴레이 실행 여부
+ * @param batchSize    한 번에 가져와 전달하는 이벤트 수
+ * @param pollInterval 아웃박스를 비운 뒤 다시 확인하기까지의 간격
+ */
+@ConfigurationProperties("splearn.outbox.relay")
+public record OutboxRelayProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("PT1S") Duration pollInterval
+) {
+}
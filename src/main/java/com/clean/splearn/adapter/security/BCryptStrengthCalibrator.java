@@ -0,0 +1,46 @@
+package com.clean.splearn.adapter.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * 현재 하드웨어에서 해시 한 번이 목표 시간에 가장 가깝게 걸리는 bcrypt cost 를 찾는다.
+ * cost 가 1 오를 때마다 시간은 두 배가 되므로, 목표를 넘는 cost 를 찾을 때까지만 측정한다.
+ */
+class BCryptStrengthCalibrator {
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    static int calibrate(Duration targetHashTime, int minStrength, int maxStrength) {
+        Assert.isTrue(minStrength <= maxStrength, "minStrength 는 maxStrength 보다 클 수 없습니다");
+
+        long target = targetHashTime.toNanos();
+        measure(minStrength);
+
+        long previous = 0;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsed = measure(strength);
+            if (elapsed < target) {
+                previous = elapsed;
+                continue;
+            }
+
+            boolean previousIsCloser = strength > minStrength && target - previous < elapsed - target;
+            return previousIsCloser ? strength - 1 : strength;
+        }
+
+        return maxStrength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,7 @@
+package com.clean.splearn.adapter.security;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,46 @@
+package com.clean.splearn.adapter.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 설정
+ *
+ * @param algorithm        새 해시에 쓰는 알고리즘(bcrypt, pbkdf2, argon2). 다른 알고리즘의 해시는 검증에 성공하면 다시 해시한다
+ * @param strength         bcrypt cost. calibrate 가 켜져 있으면 무시된다
+ * @param calibrate        기동할 때 targetHashTime 에 맞는 cost 를 측정해서 고를지 여부
+ * @param targetHashTime   calibrate 가 목표로 하는 해시 한 번의 시간
+ * @param minStrength      calibrate 가 고를 수 있는 가장 낮은 cost
+ * @param maxStrength      calibrate 가 고를 수 있는 가장 높은 cost
+ * @param pbkdf2Iterations PBKDF2 반복 횟수. 해시의 {pbkdf2-반복횟수} 접두사에 기록되므로 바꿔도 기존 해시를 검증할 수 있고,
+ *                         로그인할 때 새 반복 횟수로 다시 해시한다
+ * @param argon2MemoryKb   Argon2 메모리 비용(KB)
+ * @param argon2Iterations Argon2 반복 횟수
+ * @param threads          해시 전용 스레드 수. 0 이면 CPU 코어 수를 사용한다
+ * @param queueCapacity    스레드가 모두 바쁠 때 기다릴 수 있는 요청 수. 넘치면 바로 거절한다
+ */
+@ConfigurationProperties("splearn.security.password")
+public record PasswordHashingProperties(
+        @DefaultValue("bcrypt") String algorithm,
+        @DefaultValue("10") int strength,
+        @DefaultValue("false") boolean calibrate,
+        @DefaultValue("250ms") Duration targetHashTime,
+        @DefaultValue("10") int minStrength,
+        @DefaultValue("16") int maxStrength,
+        @DefaultValue("310000") int pbkdf2Iterations,
+        @DefaultValue("16384") int argon2MemoryKb,
+        @DefaultValue("2") int argon2Iterations,
+        @DefaultValue("0") int threads,
+        @DefaultValue("100") int queueCapacity
+) {
+    public static PasswordHashingProperties defaults() {
+        return new PasswordHashingProperties("bcrypt", 10, false, Duration.ofMillis(250), 10, 16,
+                310000, 16384, 2, 0, 100);
+    }
+
+    int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
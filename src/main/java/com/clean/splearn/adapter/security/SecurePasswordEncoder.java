@@ -1,20 +1,212 @@
 package com.clean.splearn.adapter.security;
 
 import com.clean.splearn.domain.member.PasswordEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256;
+
+/**
+ * 비밀번호를 {알고리즘} 접두사가 붙은 해시로 만든다. 접두사가 없는 예전 해시는 bcrypt 로 검증한다.
+ * PBKDF2 는 반복 횟수가 해시에 남지 않으므로 {pbkdf2-반복횟수} 로 접두사에 기록한다.
+ * 반복 횟수가 없는 예전 {pbkdf2} 해시는 설정된 반복 횟수로 검증하고, 로그인할 때 다시 해시한다.
+ * 해시는 전용 스레드 풀에서 수행한다. 요청 스레드는 결과를 기다리지만, 동시에 해시에 쓰이는 CPU 는 풀 크기로 제한되고
+ * 대기열이 넘치면 바로 거절한다.
+ */
+@Slf4j
 @Component
 public class SecurePasswordEncoder implements PasswordEncoder {
-    private final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+    private static final String BCRYPT = "bcrypt";
+    /**
+     * {id} 접두사가 붙은 해시
+     */
+    private static final Pattern PREFIXED_HASH = Pattern.compile("\\{([a-z0-9-]+)}(.+)", Pattern.DOTALL);
+    /**
+     * $2a$10$ 로 시작하는 bcrypt 해시. 솔트와 해시를 합쳐 53자다.
+     */
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[abxy]?\\$\\d\\d\\$[./A-Za-z0-9]{53}");
+    private static final String PBKDF2 = "pbkdf2";
+    /**
+     * {pbkdf2-310000} 처럼 반복 횟수가 붙은 PBKDF2 id
+     */
+    private static final Pattern PBKDF2_ID = Pattern.compile("pbkdf2-([1-9]\\d{0,7})");
+    /**
+     * 알고리즘별로 가져올 수 있는 해시 형식
+     */
+    private static final Map<String, Pattern> HASH_FORMATS = Map.of(
+            BCRYPT, BCRYPT_HASH,
+            PBKDF2, Pattern.compile("(?:[0-9a-f]{2})+"),
+            "argon2", Pattern.compile("\\$argon2(?:id|i|d)\\$.+")
+    );
+    /**
+     * $2a$10$... 에서 cost 를 꺼낸다. 형식이 맞지 않는 해시는 다시 해시해야 하는 것으로 본다.
+     */
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final String algorithm;
+    private final String encodingId;
+    private final int bcryptStrength;
+    private final Map<String, org.springframework.security.crypto.password.PasswordEncoder> encoders;
+    private final Map<Integer, Pbkdf2PasswordEncoder> pbkdf2Encoders = new ConcurrentHashMap<>();
+    private final DelegatingPasswordEncoder delegatingPasswordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public SecurePasswordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.bcryptStrength = properties.calibrate()
+                ? BCryptStrengthCalibrator.calibrate(properties.targetHashTime(), properties.minStrength(), properties.maxStrength())
+                : properties.strength();
+        this.algorithm = properties.algorithm();
+        log.info("password hash algorithm: {}, bcrypt strength: {}", algorithm, bcryptStrength);
+
+        String pbkdf2Id = PBKDF2 + "-" + properties.pbkdf2Iterations();
+        this.encodingId = PBKDF2.equals(algorithm) ? pbkdf2Id : algorithm;
+
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        Pbkdf2PasswordEncoder pbkdf2PasswordEncoder = pbkdf2(properties.pbkdf2Iterations());
+        this.encoders = Map.of(
+                BCRYPT, bCryptPasswordEncoder,
+                PBKDF2, pbkdf2PasswordEncoder,
+                pbkdf2Id, pbkdf2PasswordEncoder,
+                "argon2", new Argon2PasswordEncoder(16, 32, 1, properties.argon2MemoryKb(), properties.argon2Iterations())
+        );
+        this.delegatingPasswordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        this.delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+
+        this.executor = new ThreadPoolExecutor(properties.effectiveThreads(), properties.effectiveThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.queueCapacity()),
+                Thread.ofPlatform().daemon().name("password-hash-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+        this.rejectedCounter = Counter.builder("splearn.password.hash.rejected")
+                .description("해시 스레드 풀이 가득 차서 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("splearn.password.hash.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("splearn.password.hash.strength", () -> bcryptStrength)
+                .register(meterRegistry);
+    }
+
+    private Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("splearn.password.hash")
+                .description("비밀번호 해시 한 번에 걸린 시간")
+                .tag("operation", operation)
+                .tag("algorithm", algorithm)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     public String encode(String password) {
-        return bCryptPasswordEncoder.encode(password);
+        return execute(encodeTimer, () -> delegatingPasswordEncoder.encode(password));
     }
 
+    /**
+     * 지금 설정과 반복 횟수가 다른 {pbkdf2-반복횟수} 해시는 그 반복 횟수로 검증한다.
+     */
     @Override
     public boolean matches(String password, String passwordHash) {
-        return bCryptPasswordEncoder.matches(password, passwordHash);
+        Matcher prefixed = PREFIXED_HASH.matcher(passwordHash);
+        if (prefixed.matches() && !encoders.containsKey(prefixed.group(1))) {
+            Matcher pbkdf2Id = PBKDF2_ID.matcher(prefixed.group(1));
+            if (pbkdf2Id.matches()) {
+                Pbkdf2PasswordEncoder encoder = pbkdf2Encoders.computeIfAbsent(Integer.parseInt(pbkdf2Id.group(1)), SecurePasswordEncoder::pbkdf2);
+                return execute(matchesTimer, () -> encoder.matches(password, prefixed.group(2)));
+            }
+        }
+
+        return execute(matchesTimer, () -> delegatingPasswordEncoder.matches(password, passwordHash));
+    }
+
+    /**
+     * 다른 알고리즘으로 만든 해시나, 현재 설정과 cost 가 다른 bcrypt 해시, 반복 횟수가 다르거나 기록되지 않은
+     * PBKDF2 해시는 다시 해시해야 한다. cost 가 높아진 경우뿐 아니라 낮아진 경우도 포함한다.
+     */
+    @Override
+    public boolean upgradeEncoding(String passwordHash) {
+        int end = passwordHash.indexOf('}');
+        if (!passwordHash.startsWith("{") || end < 0) return true;
+
+        String id = passwordHash.substring(1, end);
+        if (!encodingId.equals(id)) return true;
+
+        String encoded = passwordHash.substring(end + 1);
+        if (BCRYPT.equals(id)) {
+            Matcher matcher = BCRYPT_COST.matcher(encoded);
+            return !matcher.lookingAt() || Integer.parseInt(matcher.group(1)) != bcryptStrength;
+        }
+
+        return encoders.get(id).upgradeEncoding(encoded);
+    }
+
+    /**
+     * 설정된 알고리즘의 접두사가 붙고 그 알고리즘의 형식에 맞는 해시, 또는 접두사 없는 bcrypt 해시만 받는다.
+     * 형식이 다른 값은 로그인할 때 검증에 실패하거나 예외가 나므로 가져올 때 거른다.
+     */
+    @Override
+    public boolean isRecognizedHash(String passwordHash) {
+        Matcher prefixed = PREFIXED_HASH.matcher(passwordHash);
+        if (!prefixed.matches()) return BCRYPT_HASH.matcher(passwordHash).matches();
+
+        String id = PBKDF2_ID.matcher(prefixed.group(1)).matches() ? PBKDF2 : prefixed.group(1);
+        Pattern format = HASH_FORMATS.get(id);
+        return format != null && format.matcher(prefixed.group(2)).matches();
+    }
+
+    private static Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations, PBKDF2WithHmacSHA256);
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(hashing));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요", e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트 되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
     }
 }
@@ -0,0 +1,84 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.domain.member.MemberExportRow;
+import jakarta.annotation.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 형식의 CSV 로 쓴다. 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싼다.
+ * 스프레드시트가 수식으로 읽지 않도록 =, +, -, @, 탭, CR 로 시작하는 값 앞에는 ' 를 붙인다.
+ */
+class CsvMemberExportWriter implements MemberExportWriter {
+    static final String HEADER =
+            "id,email,nickname,status,profileAddress,introduction,registeredAt,activatedAt,deactivatedAt";
+
+    private final Writer writer;
+
+    CsvMemberExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void write(MemberExportRow row) {
+        try {
+            writer.write(String.valueOf(row.id()));
+            writeField(row.email());
+            writeField(row.nickname());
+            writeField(row.status().name());
+            writeField(row.profileAddress());
+            writeField(row.introduction());
+            writeField(row.registeredAt());
+            writeField(row.activatedAt());
+            writeField(row.deactivatedAt());
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeField(@Nullable Object value) throws IOException {
+        writer.write(',');
+        if (value == null) return;
+
+        String text = neutralizeFormula(value.toString());
+        if (!needsQuote(text)) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String neutralizeFormula(String text) {
+        if (text.isEmpty()) return text;
+
+        return switch (text.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + text;
+            default -> text;
+        };
+    }
+
+    private static boolean needsQuote(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,131 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.domain.member.MemberImportLine;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import jakarta.annotation.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * RFC 4180 형식의 CSV 를 읽는다. 첫 행은 email, nickname, password 열 이름을 담은 헤더이고 열 순서는 자유다.
+ * 따옴표 안의 줄바꿈도 한 행으로 읽으며, 행 번호는 헤더를 뺀 레코드 번호다.
+ */
+class CsvMemberImportReader implements MemberImportReader {
+    private static final int END = -1;
+
+    private final BufferedReader reader;
+    private final int emailColumn;
+    private final int nicknameColumn;
+    private final int passwordColumn;
+    private final int columns;
+    private long recordNumber;
+    @Nullable
+    private MemberImportLine next;
+
+    CsvMemberImportReader(InputStream inputStream) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        List<String> header = readRecord();
+        if (header == null) throw new IllegalArgumentException("CSV 헤더가 없습니다");
+        // 엑셀이 붙이는 BOM 은 열 이름에서 뺀다
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) header.set(0, header.get(0).substring(1));
+
+        this.emailColumn = column(header, "email");
+        this.nicknameColumn = column(header, "nickname");
+        this.passwordColumn = column(header, "password");
+        this.columns = header.size();
+    }
+
+    private static int column(List<String> header, String name) {
+        int index = header.indexOf(name);
+        if (index < 0) throw new IllegalArgumentException("CSV 헤더에 " + name + " 열이 없습니다");
+        return index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+
+        try {
+            List<String> record = readRecord();
+            if (record == null) return false;
+
+            recordNumber++;
+            next = record.size() == columns
+                    ? MemberImportLine.of(recordNumber, new MemberRegisterRequest(
+                            record.get(emailColumn), record.get(nicknameColumn), record.get(passwordColumn)))
+                    : MemberImportLine.unreadable(recordNumber, "열 개수가 헤더와 다릅니다: " + record.size());
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public MemberImportLine next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        MemberImportLine line = next;
+        next = null;
+        return line;
+    }
+
+    /**
+     * 레코드 하나를 읽는다. 빈 줄은 건너뛰고, 더 읽을 것이 없으면 null 을 돌려준다.
+     */
+    @Nullable
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        while (c == '\r' || c == '\n') c = reader.read();
+        if (c == END) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == END) throw new IOException("따옴표가 닫히지 않은 채로 파일이 끝났습니다");
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == END) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,17 @@
+package com.clean.splearn.adapter.webapi;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HTTP 캐시 설정. 회원 리소스는 매번 ETag 로 재검증하므로 공개 프로필만 캐시 기간을 둔다.
+ *
+ * @param profileMaxAge 공개 프로필을 재검증 없이 캐시해도 되는 기간. 비활성화된 회원의 프로필도 이 기간만큼 더 보일 수 있다.
+ */
+@ConfigurationProperties("splearn.webapi.http-cache")
+public record HttpCacheProperties(
+        @DefaultValue("60s") Duration profileMaxAge
+) {
+}
@@ -0,0 +1,7 @@
+package com.clean.splearn.adapter.webapi;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
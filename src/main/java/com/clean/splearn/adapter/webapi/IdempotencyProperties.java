@@ -0,0 +1,19 @@
+package com.clean.splearn.adapter.webapi;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 응답 보관 설정
+ *
+ * @param maximumSize 보관하는 최대 키 수
+ * @param ttl         응답을 보관하는 기간. 이 기간이 지나면 같은 키로 다시 실행된다
+ */
+@ConfigurationProperties("splearn.webapi.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("24h") Duration ttl
+) {
+}
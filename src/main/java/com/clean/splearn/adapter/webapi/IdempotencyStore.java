@@ -0,0 +1,75 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별로 처음 성공한 응답을 보관한다.
+ * 같은 키로 다시 오면 유스케이스를 실행하지 않고 보관한 응답을 돌려주고, 처리 중이면 그 결과를 기다린다.
+ * 실패한 요청은 보관하지 않으므로 같은 키로 다시 시도할 수 있다.
+ * 요청 본문은 해시로만 보관하고, 같은 키에 다른 본문이 오면 거절한다.
+ */
+@Component
+public class IdempotencyStore {
+    public static final String HEADER = "Idempotency-Key";
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Object request, Supplier<T> action) {
+        Entry entry = new Entry(fingerprint(request), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+
+        if (existing != null) {
+            if (!MessageDigest.isEqual(existing.fingerprint(), entry.fingerprint())) {
+                throw new IdempotencyKeyReusedException("다른 요청에 이미 사용한 Idempotency-Key 입니다: " + key);
+            }
+            return (T) join(existing.response());
+        }
+
+        try {
+            T response = action.get();
+            entry.response().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(key, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private static byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(request.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(byte[] fingerprint, CompletableFuture<Object> response) {
+    }
+}
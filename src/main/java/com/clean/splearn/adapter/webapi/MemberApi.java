@@ -1,24 +1,147 @@
 package com.clean.splearn.adapter.webapi;
 
+import com.clean.splearn.adapter.webapi.dto.MemberBulkRegisterResponse;
 import com.clean.splearn.adapter.webapi.dto.MemberRegisterResponse;
+import com.clean.splearn.adapter.webapi.dto.MemberResponse;
+import com.clean.splearn.adapter.webapi.dto.MemberSearchRequest;
+import com.clean.splearn.application.member.provided.MemberFinder;
 import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.application.member.provided.MemberVersionConflictException;
 import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberInfoUpdateRequest;
+import com.clean.splearn.domain.member.MemberPage;
 import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.member.MemberSummary;
+import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class MemberApi {
+    /**
+     * 회원 정보는 본인만 보므로 공유 캐시에 두지 않고, 쓸 때마다 ETag 로 재검증한다.
+     */
+    static final CacheControl MEMBER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    /**
+     * 한 번에 조회할 수 있는 회원 수. IN 절과 응답이 끝없이 커지지 않도록 검색 페이지 크기와 같게 둔다.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
     private final MemberRegister memberRegister;
+    private final MemberFinder memberFinder;
+    private final IdempotencyStore idempotencyStore;
+    private final MemberLoader memberLoader;
 
     @PostMapping("/api/members")
-    public MemberRegisterResponse register(@RequestBody @Valid MemberRegisterRequest request) {
+    public MemberRegisterResponse register(@RequestBody @Valid MemberRegisterRequest request,
+                                           @RequestHeader(name = IdempotencyStore.HEADER, required = false) @Nullable String idempotencyKey) {
+        if (idempotencyKey == null) return register(request);
+
+        return idempotencyStore.execute(idempotencyKey, request, () -> register(request));
+    }
+
+    private MemberRegisterResponse register(MemberRegisterRequest request) {
         Member register = memberRegister.register(request);
 
         return MemberRegisterResponse.of(register);
     }
+
+    @PostMapping("/api/members/bulk")
+    public MemberBulkRegisterResponse registerAll(@RequestBody List<MemberRegisterRequest> requests) {
+        return MemberBulkRegisterResponse.of(memberRegister.registerAll(requests));
+    }
+
+    @GetMapping("/api/members")
+    public MemberPage search(@Valid MemberSearchRequest request) {
+        return memberFinder.search(request.toCondition(), request.cursor(), request.sizeOrDefault());
+    }
+
+    /**
+     * 여러 회원을 요청한 순서대로 한 번에 조회한다. 같은 id 를 여러 번 보내도 한 번의 쿼리로 읽고, 없는 회원은 빠진다.
+     * id 는 MAX_BATCH_SIZE 개까지 보낼 수 있다.
+     */
+    @GetMapping("/api/members/batch")
+    public List<MemberResponse> findAll(@RequestParam @Size(max = MAX_BATCH_SIZE) List<Long> ids) {
+        return memberLoader.getAll(ids).values().stream()
+                .map(MemberResponse::of)
+                .toList();
+    }
+
+    /**
+     * 자주 읽는 회원 요약은 캐시에서 읽는다. 회원이 변경되면 커밋 이후에 캐시에서 지워진다.
+     */
+    @GetMapping("/api/members/{memberId}/summary")
+    public ResponseEntity<MemberSummary> findSummary(@PathVariable Long memberId) {
+        return ResponseEntity.ok()
+                .cacheControl(MEMBER_CACHE_CONTROL)
+                .body(memberFinder.findSummary(memberId));
+    }
+
+    /**
+     * If-None-Match 가 있으면 버전만 조회해 비교하고, 같으면 회원을 읽지 않고 304 로 응답한다.
+     * 304 판단과 ETag 가 같은 버전을 가리키도록 본문도 캐시가 아닌 DB 에서 읽는다.
+     */
+    @GetMapping("/api/members/{memberId}")
+    public ResponseEntity<MemberResponse> find(@PathVariable Long memberId,
+                                               @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) @Nullable String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = memberFinder.findVersion(memberId);
+            if (MemberETags.matchesAny(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(MemberETags.of(version))
+                        .cacheControl(MEMBER_CACHE_CONTROL)
+                        .build();
+            }
+        }
+
+        Member member = memberFinder.findLatest(memberId);
+
+        return ResponseEntity.ok()
+                .eTag(MemberETags.of(member.getVersion()))
+                .cacheControl(MEMBER_CACHE_CONTROL)
+                .body(MemberResponse.of(member));
+    }
+
+    /**
+     * 조회할 때 받은 ETag 를 If-Match 로 보내야 한다. 그 사이 다른 변경이 있었다면 412 로 실패한다.
+     */
+    @PutMapping("/api/members/{memberId}/info")
+    public ResponseEntity<MemberResponse> updateInfo(@PathVariable Long memberId,
+                                                     @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Nullable String ifMatch,
+                                                     @RequestBody @Valid MemberInfoUpdateRequest request) {
+        if (ifMatch == null) throw new PreconditionRequiredException("If-Match 헤더가 필요합니다");
+
+        long expectedVersion = MemberETags.expectedVersion(ifMatch);
+        Member member;
+        try {
+            member = MemberETags.isWildcard(ifMatch)
+                    ? memberRegister.updateInfo(memberId, request)
+                    : memberRegister.updateInfo(memberId, expectedVersion, request);
+        } catch (OptimisticLockingFailureException e) {
+            throw new MemberVersionConflictException(memberId, expectedVersion);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(MemberETags.of(member.getVersion()))
+                .cacheControl(MEMBER_CACHE_CONTROL)
+                .body(MemberResponse.of(member));
+    }
 }
@@ -0,0 +1,25 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.adapter.webapi.dto.MemberLoginResponse;
+import com.clean.splearn.application.member.provided.MemberAuthenticator;
+import com.clean.splearn.domain.member.MemberLoginRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 로그인. 클라이언트 주소는 프록시 뒤라면 server.forward-headers-strategy 로 X-Forwarded-For 를 반영한 값을 쓴다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberAuthenticationApi {
+    private final MemberAuthenticator memberAuthenticator;
+
+    @PostMapping("/api/members/login")
+    public MemberLoginResponse login(@RequestBody @Valid MemberLoginRequest request, HttpServletRequest servletRequest) {
+        return MemberLoginResponse.of(memberAuthenticator.authenticate(request, servletRequest.getRemoteAddr()));
+    }
+}
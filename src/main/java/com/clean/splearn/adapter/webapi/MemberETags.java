@@ -0,0 +1,46 @@
+package com.clean.splearn.adapter.webapi;
+
+import org.springframework.http.ETag;
+
+/**
+ * 회원 버전을 강한 ETag 로 바꾸고, 조건부 요청 헤더와 비교한다.
+ */
+final class MemberETags {
+    /**
+     * If-Match 가 버전이 아니면 이 값으로 비교해 항상 충돌하게 한다.
+     */
+    static final long UNMATCHABLE_VERSION = -1L;
+
+    private MemberETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-None-Match 는 약한 비교를 한다.
+     */
+    static boolean matchesAny(String ifNoneMatch, long version) {
+        ETag current = new ETag(String.valueOf(version), false);
+
+        return ETag.parse(ifNoneMatch).stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    static boolean isWildcard(String ifMatch) {
+        return ETag.parse(ifMatch).stream().anyMatch(ETag::isWildcard);
+    }
+
+    /**
+     * If-Match 는 강한 비교를 하므로 약한 ETag 나 숫자가 아닌 값은 어떤 버전과도 맞지 않는다.
+     */
+    static long expectedVersion(String ifMatch) {
+        return ETag.parse(ifMatch).stream()
+                .filter(tag -> !tag.weak())
+                .map(ETag::tag)
+                .filter(tag -> !tag.isEmpty() && tag.chars().allMatch(Character::isDigit) && tag.length() < 19)
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(UNMATCHABLE_VERSION);
+    }
+}
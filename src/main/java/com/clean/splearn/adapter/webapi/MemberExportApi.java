@@ -0,0 +1,61 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.application.member.provided.MemberExporter;
+import com.clean.splearn.domain.member.MemberStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회원 전체를 NDJSON 또는 CSV 로 응답에 바로 흘려보낸다.
+ * 조회와 쓰기가 한 건씩 이어지므로 회원 수와 상관없이 메모리 사용량이 일정하다.
+ * 요청의 Accept-Encoding 에 gzip 이 있으면 압축하면서 보낸다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberExportApi {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MemberExporter memberExporter;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/api/members/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") MemberExportFormat format,
+            @RequestParam(required = false) @Nullable MemberStatus status,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = responseStream -> {
+            OutputStream target = StreamUtils.nonClosing(responseStream);
+            OutputStream outputStream = gzip
+                    ? new GZIPOutputStream(target, BUFFER_SIZE)
+                    : new BufferedOutputStream(target, BUFFER_SIZE);
+
+            try (MemberExportWriter writer = format.open(outputStream, objectMapper)) {
+                memberExporter.export(status, writer::write);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName()).build().toString());
+        if (gzip) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        return response.body(body);
+    }
+}
@@ -0,0 +1,40 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum MemberExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson") {
+        @Override
+        MemberExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            return new NdjsonMemberExportWriter(outputStream, objectMapper);
+        }
+    },
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv") {
+        @Override
+        MemberExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            return new CsvMemberExportWriter(outputStream);
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    MemberExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    abstract MemberExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException;
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileName() {
+        return "members." + extension;
+    }
+}
@@ -0,0 +1,13 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.domain.member.MemberExportRow;
+
+import java.io.Closeable;
+
+/**
+ * 내보내는 회원을 한 건씩 출력 스트림에 쓴다. 닫으면 남은 내용을 모두 내보낸다.
+ * 쓰기 실패는 UncheckedIOException 으로 알린다.
+ */
+interface MemberExportWriter extends Closeable {
+    void write(MemberExportRow row);
+}
@@ -0,0 +1,47 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.application.member.provided.MemberImporter;
+import com.clean.splearn.domain.member.MemberImportReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 요청 본문으로 올라온 회원 파일(NDJSON 또는 CSV)을 읽으면서 바로 등록한다. 파일 전체를 메모리에 올리지 않는다.
+ * 중간에 끊기면 같은 jobId 로 같은 파일을 다시 올리면 커밋된 행 다음부터 이어서 처리한다.
+ * Content-Encoding 이 gzip 이면 압축을 풀면서 읽는다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberImportApi {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MemberImporter memberImporter;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping("/api/members/import")
+    public MemberImportReport importMembers(
+            @RequestParam String jobId,
+            @RequestParam(defaultValue = "NDJSON") MemberImportFormat format,
+            @RequestParam(defaultValue = "false") boolean preHashed,
+            @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, required = false) @Nullable String contentEncoding,
+            InputStream body) throws IOException {
+        InputStream inputStream = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(body, BUFFER_SIZE)
+                : new BufferedInputStream(body, BUFFER_SIZE);
+
+        try (MemberImportReader reader = format.open(inputStream, objectMapper)) {
+            return memberImporter.importMembers(jobId, preHashed, reader);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public enum MemberImportFormat {
+    NDJSON {
+        @Override
+        MemberImportReader open(InputStream inputStream, ObjectMapper objectMapper) {
+            return new NdjsonMemberImportReader(inputStream, objectMapper);
+        }
+    },
+    CSV {
+        @Override
+        MemberImportReader open(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+            return new CsvMemberImportReader(inputStream);
+        }
+    };
+
+    abstract MemberImportReader open(InputStream inputStream, ObjectMapper objectMapper) throws IOException;
+}
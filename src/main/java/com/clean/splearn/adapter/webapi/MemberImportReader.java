@@ -0,0 +1,13 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.domain.member.MemberImportLine;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * 입력 스트림에서 회원을 한 행씩 읽는다. 형식이 잘못된 행은 읽기를 멈추지 않고 오류 행으로 돌려준다.
+ * 읽기 실패는 UncheckedIOException 으로 알린다.
+ */
+interface MemberImportReader extends Iterator<MemberImportLine>, Closeable {
+}
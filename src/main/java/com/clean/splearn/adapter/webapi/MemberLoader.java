@@ -0,0 +1,177 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.application.member.provided.MemberFinder;
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
+import com.clean.splearn.domain.member.Member;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 한 요청 안의 회원 조회를 모아서 한 번에 한다(DataLoader 방식).
+ * load 는 id 만 모아 두고, dispatch 하거나 get 으로 결과가 필요해지는 순간 모인 id 를 MemberFinder.findAll 한 번으로 조회한다.
+ * 한 번 조회한 회원은 요청이 끝날 때까지 다시 조회하지 않는다.
+ * 아낀 쿼리 수는 splearn.member.loader.saved 로, 실제로 보낸 쿼리 수는 splearn.member.loader.queries 로 남긴다.
+ * 아낀 쿼리는 한 번의 dispatch 로 함께 조회한 호출 수에서 하나를 뺀 값과, 이미 조회를 마친 회원을 다시 load 한 횟수다.
+ * 새 id 를 등록한 load 하나가 호출 하나다. getAll 은 받은 id 가 몇 개든 원래 한 번에 조회할 목록이므로 호출 하나로 센다.
+ */
+@Component
+@RequestScope
+public class MemberLoader {
+    static final String QUERIES = "splearn.member.loader.queries";
+    static final String SAVED = "splearn.member.loader.saved";
+
+    private final MemberFinder memberFinder;
+    private final Counter queries;
+    private final Counter saved;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, CompletableFuture<Member>> loaded = new HashMap<>();
+    private final Map<Long, CompletableFuture<Member>> pending = new LinkedHashMap<>();
+    private int pendingCalls;
+
+    public MemberLoader(MemberFinder memberFinder, MeterRegistry meterRegistry) {
+        this.memberFinder = memberFinder;
+        this.queries = Counter.builder(QUERIES)
+                .description("요청 안에서 모은 회원 조회를 실제로 보낸 쿼리 수")
+                .register(meterRegistry);
+        this.saved = Counter.builder(SAVED)
+                .description("모아서 조회하거나 이미 조회한 결과를 재사용해 아낀 쿼리 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회할 id 를 등록한다. 결과는 다음 dispatch 에서 채워진다.
+     */
+    public CompletableFuture<Member> load(Long memberId) {
+        lock.lock();
+        try {
+            CompletableFuture<Member> member = loaded.get(memberId);
+            if (member != null) {
+                if (member.isDone()) saved.increment();
+                return member;
+            }
+
+            pendingCalls++;
+            return register(memberId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompletableFuture<Member> register(Long memberId) {
+        CompletableFuture<Member> member = new CompletableFuture<>();
+        loaded.put(memberId, member);
+        pending.put(memberId, member);
+        return member;
+    }
+
+    /**
+     * 지금까지 모인 id 를 한 번에 조회한다. 없는 회원의 future 는 MemberNotFoundException 으로 끝난다.
+     */
+    public void dispatch() {
+        Map<Long, CompletableFuture<Member>> batch;
+        int calls;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) return;
+
+            batch = new LinkedHashMap<>(pending);
+            calls = pendingCalls;
+            pending.clear();
+            pendingCalls = 0;
+        } finally {
+            lock.unlock();
+        }
+
+        queries.increment();
+        if (calls > 1) saved.increment(calls - 1);
+
+        Map<Long, Member> members;
+        try {
+            members = memberFinder.findAll(batch.keySet());
+        } catch (RuntimeException e) {
+            forget(batch.keySet());
+            batch.values().forEach(member -> member.completeExceptionally(e));
+            return;
+        }
+
+        batch.forEach((memberId, member) -> {
+            Member found = members.get(memberId);
+            if (found != null) member.complete(found);
+            else member.completeExceptionally(new MemberNotFoundException(memberId));
+        });
+    }
+
+    public Member get(Long memberId) {
+        CompletableFuture<Member> member = load(memberId);
+        if (!member.isDone()) dispatch();
+
+        return join(member);
+    }
+
+    /**
+     * 여러 회원을 한 번에 가져온다. 없는 회원은 결과에서 빠진다.
+     */
+    public Map<Long, Member> getAll(Collection<Long> memberIds) {
+        List<Map.Entry<Long, CompletableFuture<Member>>> members = new ArrayList<>();
+        lock.lock();
+        try {
+            boolean registered = false;
+            for (Long memberId : new LinkedHashSet<>(memberIds)) {
+                CompletableFuture<Member> member = loaded.get(memberId);
+                if (member == null) {
+                    member = register(memberId);
+                    registered = true;
+                }
+                members.add(Map.entry(memberId, member));
+            }
+            if (registered) pendingCalls++;
+        } finally {
+            lock.unlock();
+        }
+        dispatch();
+
+        Map<Long, Member> result = new LinkedHashMap<>();
+        for (Map.Entry<Long, CompletableFuture<Member>> member : members) {
+            try {
+                result.put(member.getKey(), join(member.getValue()));
+            } catch (MemberNotFoundException e) {
+                // 없는 회원은 빼고 돌려준다
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 조회에 실패한 id 는 기억하지 않아서 다음 load 에서 다시 조회할 수 있게 한다.
+     */
+    private void forget(Collection<Long> memberIds) {
+        lock.lock();
+        try {
+            memberIds.forEach(loaded::remove);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Member join(CompletableFuture<Member> member) {
+        try {
+            return member.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
+import com.clean.splearn.application.member.provided.MemberProfileFinder;
+import com.clean.splearn.domain.member.MemberProfileSummary;
+import com.clean.splearn.domain.member.Profile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 공개 프로필. Profile.url() 형식(@address)과 주소만 쓴 형식을 모두 받는다.
+ * 프로필 주소 형식에 맞지 않으면 그런 프로필은 없으므로 404 로 응답한다.
+ * 누구나 보는 자료라 공유 캐시에도 profileMaxAge 동안 두고, 그 뒤에는 내용으로 만든 약한 ETag 로 재검증한다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberProfileApi {
+    private final MemberProfileFinder memberProfileFinder;
+    private final HttpCacheProperties httpCacheProperties;
+
+    @GetMapping("/api/profiles/{profileUrl}")
+    public ResponseEntity<MemberProfileSummary> find(@PathVariable String profileUrl) {
+        MemberProfileSummary summary = memberProfileFinder.find(toProfile(profileUrl));
+
+        return ResponseEntity.ok()
+                .eTag("W/\"" + Integer.toHexString(summary.hashCode()) + "\"")
+                .cacheControl(CacheControl.maxAge(httpCacheProperties.profileMaxAge()).cachePublic())
+                .body(summary);
+    }
+
+    private static Profile toProfile(String profileUrl) {
+        String address = profileUrl.startsWith("@") ? profileUrl.substring(1) : profileUrl;
+
+        try {
+            return new Profile(address);
+        } catch (IllegalArgumentException e) {
+            throw new MemberNotFoundException(profileUrl);
+        }
+    }
+}
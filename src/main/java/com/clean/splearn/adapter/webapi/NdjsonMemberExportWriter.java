@@ -0,0 +1,41 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.domain.member.MemberExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 한 줄에 회원 하나씩 JSON 으로 쓴다. 건마다 flush 하지 않는다.
+ */
+class NdjsonMemberExportWriter implements MemberExportWriter {
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    NdjsonMemberExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+        this.objectWriter = objectMapper.writerFor(MemberExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(MemberExportRow row) {
+        try {
+            objectWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
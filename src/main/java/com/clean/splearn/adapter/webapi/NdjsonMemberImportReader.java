@@ -0,0 +1,74 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.domain.member.MemberImportLine;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * 한 줄에 JSON 객체 하나({"email":..., "nickname":..., "password":...})를 읽는다.
+ * 행 번호는 파일의 줄 번호이고, 빈 줄은 번호만 차지하고 건너뛴다.
+ */
+class NdjsonMemberImportReader implements MemberImportReader {
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber;
+    @Nullable
+    private MemberImportLine next;
+
+    NdjsonMemberImportReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectReader = objectMapper.readerFor(MemberRegisterRequest.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                next = parse(line);
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MemberImportLine parse(String line) {
+        try {
+            return MemberImportLine.of(lineNumber, objectReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return MemberImportLine.unreadable(lineNumber, "JSON 형식이 아닙니다: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public MemberImportLine next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        MemberImportLine line = next;
+        next = null;
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
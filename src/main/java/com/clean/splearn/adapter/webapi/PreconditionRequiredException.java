@@ -0,0 +1,7 @@
+package com.clean.splearn.adapter.webapi;
+
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.clean.splearn.adapter.webapi.dto;
+
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberRegisterResult;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+public record MemberBulkRegisterResponse(int registered, int failed, List<Item> results) {
+    public static MemberBulkRegisterResponse of(List<MemberRegisterResult> results) {
+        List<Item> items = results.stream().map(Item::of).toList();
+        int registered = (int) items.stream().filter(item -> item.memberId() != null).count();
+
+        return new MemberBulkRegisterResponse(registered, items.size() - registered, items);
+    }
+
+    public record Item(String email, @Nullable Long memberId, @Nullable String failure) {
+        static Item of(MemberRegisterResult result) {
+            Member member = result.member();
+
+            return new Item(result.email(), member != null ? member.getId() : null, result.failure());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.clean.splearn.adapter.webapi.dto;
+
+import com.clean.splearn.domain.member.Member;
+
+public record MemberLoginResponse(Long memberId, String email, String nickname) {
+    public static MemberLoginResponse of(Member member) {
+        return new MemberLoginResponse(member.getId(), member.getEmail().address(), member.getNickname());
+    }
+}
@@ -0,0 +1,21 @@
+package com.clean.splearn.adapter.webapi.dto;
+
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberDetail;
+import com.clean.splearn.domain.member.MemberStatus;
+import jakarta.annotation.Nullable;
+
+import java.time.LocalDateTime;
+
+public record MemberResponse(Long memberId, String email, String nickname, MemberStatus status,
+                             @Nullable String profileAddress, @Nullable String introduction,
+                             LocalDateTime registeredAt, @Nullable LocalDateTime activatedAt,
+                             @Nullable LocalDateTime deactivatedAt) {
+    public static MemberResponse of(Member member) {
+        MemberDetail detail = member.getDetail();
+
+        return new MemberResponse(member.getId(), member.getEmail().address(), member.getNickname(), member.getStatus(),
+                detail.getProfile() == null ? null : detail.getProfile().address(), detail.getIntroduction(),
+                detail.getRegisteredAt(), detail.getActivatedAt(), detail.getDeactivatedAt());
+    }
+}
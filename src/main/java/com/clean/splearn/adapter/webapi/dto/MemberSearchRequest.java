@@ -0,0 +1,29 @@
+package com.clean.splearn.adapter.webapi.dto;
+
+import com.clean.splearn.domain.member.MemberSearchCondition;
+import com.clean.splearn.domain.member.MemberStatus;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+public record MemberSearchRequest(
+        @Nullable MemberStatus status,
+        @Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registeredFrom,
+        @Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registeredTo,
+        @Nullable String email,
+        @Nullable String nickname,
+        @Nullable Long cursor,
+        @Nullable @Min(1) @Max(100) Integer size) {
+    private static final int DEFAULT_SIZE = 20;
+
+    public MemberSearchCondition toCondition() {
+        return new MemberSearchCondition(status, registeredFrom, registeredTo, email, nickname);
+    }
+
+    public int sizeOrDefault() {
+        return size != null ? size : DEFAULT_SIZE;
+    }
+}
@@ -0,0 +1,84 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합에 대한 블룸 필터. "없다"는 답은 항상 정확하고, "있을 수 있다"는 답은 설정한 확률로 틀릴 수 있다.
+ * 여러 스레드가 동시에 추가하고 조회할 수 있으며, 추가와 조회 모두 객체를 만들지 않는다.
+ */
+class BloomFilter {
+    private static final long SEED1 = 0xcbf29ce484222325L;
+    private static final long SEED2 = 0x84222325cbf29ce4L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        Assert.isTrue(expectedInsertions > 0, "expectedInsertions 는 0보다 커야 합니다");
+        Assert.isTrue(falsePositiveProbability > 0 && falsePositiveProbability < 1, "falsePositiveProbability 는 0과 1 사이여야 합니다");
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE);
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) optimalBits / expectedInsertions * Math.log(2)));
+    }
+
+    void put(String value) {
+        long hash1 = hash(value, SEED1);
+        long hash2 = hash(value, SEED2);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(index(hash1, hash2, i));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash1 = hash(value, SEED1);
+        long hash2 = hash(value, SEED2);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = index(hash1, hash2, i);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    private long index(long hash1, long hash2, int i) {
+        return ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) return;
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * FNV-1a 로 섞은 뒤 MurmurHash3 의 마무리 단계로 비트를 고르게 퍼뜨린다.
+     */
+    private static long hash(String value, long seed) {
+        long hash = seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
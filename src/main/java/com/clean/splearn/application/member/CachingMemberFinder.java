@@ -0,0 +1,193 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.MemberFinder;
+import com.clean.splearn.application.member.required.MemberCache;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberEvent;
+import com.clean.splearn.domain.member.MemberPage;
+import com.clean.splearn.domain.member.MemberSearchCondition;
+import com.clean.splearn.domain.member.MemberSummary;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 회원 요약을 노드 안 캐시(L1)와 공유 캐시(L2)에 담아 두고 재사용한다.
+ * 엔티티는 요청마다 변경될 수 있으므로 캐시하지 않고, 바뀌지 않는 MemberSummary 만 여러 요청이 함께 본다.
+ * 회원이 변경되면 커밋 이후에 두 캐시에서 모두 지운다.
+ * 쓰기 트랜잭션 안에서는 아직 커밋하지 않은 변경을 봐야 하므로 캐시를 거치지 않는다.
+ * 조회는 캐시의 잠금 밖에서, 처음 요청한 스레드가 직접 한다. 같은 회원을 동시에 찾는 요청은 그 결과를 기다린다.
+ * (잠금 안에서 DB 를 조회하면 가상 스레드가 캐리어 스레드에 고정된다)
+ */
+@Primary
+@Service
+public class CachingMemberFinder implements MemberFinder {
+    private final MemberQueryService memberQueryService;
+    private final Optional<MemberCache> sharedCache;
+    private final AsyncCache<Long, MemberSummary> localCache;
+
+    public CachingMemberFinder(MemberQueryService memberQueryService, Optional<MemberCache> sharedCache,
+                               MemberCacheProperties properties, MeterRegistry meterRegistry) {
+        this.memberQueryService = memberQueryService;
+        this.sharedCache = sharedCache;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache.synchronous(), "member");
+    }
+
+    /**
+     * 엔티티는 캐시하지 않는다. 자주 읽기만 하는 곳은 findSummary 를 쓴다.
+     */
+    @Override
+    public Member find(Long memberId) {
+        return memberQueryService.find(memberId);
+    }
+
+    @Override
+    public Member findLatest(Long memberId) {
+        return memberQueryService.find(memberId);
+    }
+
+    @Override
+    public MemberSummary findSummary(Long memberId) {
+        if (isInWriteTransaction()) return memberQueryService.findSummary(memberId);
+
+        CompletableFuture<MemberSummary> loading = new CompletableFuture<>();
+        CompletableFuture<MemberSummary> summary = localCache.get(memberId, (id, executor) -> loading);
+
+        if (summary == loading) {
+            try {
+                loading.complete(findFromSharedCache(memberId));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+
+        return join(summary);
+    }
+
+    /**
+     * 캐시된 회원은 버전이 늦을 수 있으므로 항상 DB 에서 읽는다.
+     */
+    @Override
+    public long findVersion(Long memberId) {
+        return memberQueryService.findVersion(memberId);
+    }
+
+    @Override
+    public Map<Long, Member> findAll(Collection<Long> memberIds) {
+        return memberQueryService.findAll(memberIds);
+    }
+
+    /**
+     * L1 에 있는 요약은 그대로 쓰고, 나머지는 L2 를 거쳐 한 번에 조회해 L1 에도 담는다.
+     * findSummary 처럼 조회하는 동안 L1 에 자리를 잡아 두므로, 그 사이 지워진 회원은 다시 담기지 않는다.
+     */
+    @Override
+    public Map<Long, MemberSummary> findSummaries(Collection<Long> memberIds) {
+        if (isInWriteTransaction()) return memberQueryService.findSummaries(memberIds);
+
+        CompletableFuture<Map<Long, MemberSummary>> loading = new CompletableFuture<>();
+        Set<Long> missing = new HashSet<>();
+        CompletableFuture<Map<Long, MemberSummary>> found = localCache.getAll(memberIds, (ids, executor) -> {
+            missing.addAll(ids);
+            return loading;
+        });
+
+        if (!missing.isEmpty()) {
+            try {
+                loading.complete(findAllFromSharedCache(missing));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+
+        Map<Long, MemberSummary> cached = join(found);
+        Map<Long, MemberSummary> summaries = new LinkedHashMap<>();
+        for (Long memberId : memberIds) {
+            MemberSummary summary = cached.get(memberId);
+            if (summary != null) summaries.putIfAbsent(memberId, summary);
+        }
+        return summaries;
+    }
+
+    @Override
+    public MemberPage search(MemberSearchCondition condition, @Nullable Long cursor, int size) {
+        return memberQueryService.search(condition, cursor, size);
+    }
+
+    /**
+     * L2 에는 비어 있을 때만 담는다. 읽는 사이에 회원이 변경되었다면 evict 가 남긴 표시 때문에 담기지 않는다.
+     */
+    private MemberSummary findFromSharedCache(Long memberId) {
+        return sharedCache.flatMap(cache -> cache.get(memberId))
+                .orElseGet(() -> {
+                    MemberSummary summary = memberQueryService.findSummary(memberId);
+                    sharedCache.ifPresent(cache -> cache.putIfAbsent(summary));
+                    return summary;
+                });
+    }
+
+    /**
+     * L2 에 있는 요약은 그대로 쓰고, 나머지만 한 번의 IN 쿼리로 조회해 L2 에도 담는다.
+     */
+    private Map<Long, MemberSummary> findAllFromSharedCache(Set<Long> memberIds) {
+        Map<Long, MemberSummary> summaries = new HashMap<>();
+        sharedCache.ifPresent(cache -> memberIds.forEach(memberId ->
+                cache.get(memberId).ifPresent(summary -> summaries.put(memberId, summary))));
+
+        List<Long> missing = memberIds.stream().filter(memberId -> !summaries.containsKey(memberId)).toList();
+        if (missing.isEmpty()) return summaries;
+
+        Map<Long, MemberSummary> loaded = memberQueryService.findSummaries(missing);
+        sharedCache.ifPresent(cache -> loaded.values().forEach(cache::putIfAbsent));
+        summaries.putAll(loaded);
+
+        return summaries;
+    }
+
+    private static <T> T join(CompletableFuture<T> summary) {
+        try {
+            return summary.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private boolean isInWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+               && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberEvent event) {
+        evict(event.getMemberId());
+    }
+
+    public void evict(Long memberId) {
+        localCache.synchronous().invalidate(memberId);
+        sharedCache.ifPresent(cache -> cache.evict(memberId));
+    }
+}
@@ -0,0 +1,47 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.LoginThrottledException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 이메일별, 클라이언트 주소별로 로그인 시도 빈도를 제한한다.
+ * 오래 쓰지 않은 버킷은 가득 찬 새 버킷과 같으므로 캐시에서 지워도 된다.
+ */
+@Component
+class LoginThrottle {
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final MemberAuthenticationProperties properties;
+
+    LoginThrottle(MemberAuthenticationProperties properties) {
+        this.properties = properties;
+        this.emailBuckets = buckets(properties.emailCapacity(), properties.emailRefillInterval(), properties.throttleMaximumKeys());
+        this.clientBuckets = buckets(properties.clientCapacity(), properties.clientRefillInterval(), properties.throttleMaximumKeys());
+    }
+
+    private static Cache<String, TokenBucket> buckets(int capacity, Duration refillInterval, long maximumKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(refillInterval.multipliedBy(capacity))
+                .build();
+    }
+
+    void acquire(String email, String clientAddress) {
+        long now = System.nanoTime();
+
+        acquire(clientBuckets, clientAddress, properties.clientCapacity(), properties.clientRefillInterval(), now);
+        acquire(emailBuckets, email.toLowerCase(Locale.ROOT), properties.emailCapacity(), properties.emailRefillInterval(), now);
+    }
+
+    private static void acquire(Cache<String, TokenBucket> buckets, String key, int capacity, Duration refillInterval, long now) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillInterval, now));
+
+        long wait = bucket.tryAcquire(now);
+        if (wait > 0) throw new LoginThrottledException(Duration.ofNanos(wait));
+    }
+}
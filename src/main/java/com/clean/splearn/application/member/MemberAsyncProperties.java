@@ -0,0 +1,23 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 회원 유스케이스의 비동기 호출 설정
+ *
+ * @param concurrency    동시에 실행할 수 있는 작업 수. 작업마다 DB 커넥션을 쓰므로 커넥션 풀보다 작게 둔다
+ * @param virtualThreads true 면 작업마다 가상 스레드를 쓰고, 아니면 concurrency 크기의 플랫폼 스레드 풀을 쓴다
+ * @param queueCapacity  플랫폼 스레드 풀에서 실행을 기다릴 수 있는 작업 수. 넘으면 바로 거절한다
+ * @param acquireTimeout 실행 허가를 기다리는 최대 시간. 넘으면 거절한다
+ */
+@ConfigurationProperties("splearn.member.async")
+public record MemberAsyncProperties(
+        @DefaultValue("8") int concurrency,
+        @DefaultValue("false") boolean virtualThreads,
+        @DefaultValue("100") int queueCapacity,
+        @DefaultValue("1s") Duration acquireTimeout
+) {
+}
@@ -0,0 +1,124 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.AsyncMemberFinder;
+import com.clean.splearn.application.member.provided.AsyncMemberRegister;
+import com.clean.splearn.application.member.provided.MemberAsyncBusyException;
+import com.clean.splearn.application.member.provided.MemberFinder;
+import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.member.MemberRegisterResult;
+import com.clean.splearn.domain.member.MemberSummary;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 회원 유스케이스를 전용 실행기에서 실행하고 CompletableFuture 로 돌려준다.
+ * 실행기에서는 각 작업이 자기 트랜잭션을 연다. 트랜잭션은 스레드를 넘어갈 수 없으므로,
+ * 호출한 쪽이 이미 트랜잭션 안에 있으면 그 트랜잭션에서 바로 실행하고 완료된 future 를 돌려준다.
+ * 그래야 아직 커밋하지 않은 변경을 보고, 호출한 쪽과 함께 커밋되거나 롤백된다.
+ * 밀린 작업이 한없이 쌓이지 않도록, 플랫폼 스레드 풀은 queueCapacity 를 넘으면, 가상 스레드는 acquireTimeout 안에
+ * 실행 허가를 얻지 못하면 MemberAsyncBusyException 으로 실패한 future 를 돌려준다.
+ */
+@Service
+public class MemberAsyncService implements AsyncMemberFinder, AsyncMemberRegister {
+    private final MemberFinder memberFinder;
+    private final MemberRegister memberRegister;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public MemberAsyncService(MemberFinder memberFinder, MemberRegister memberRegister, MemberAsyncProperties properties) {
+        this.memberFinder = memberFinder;
+        this.memberRegister = memberRegister;
+        this.executor = properties.virtualThreads()
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("member-async-", 0).factory())
+                : new ThreadPoolExecutor(properties.concurrency(), properties.concurrency(), 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(properties.queueCapacity()),
+                        Thread.ofPlatform().daemon().name("member-async-", 0).factory(),
+                        new ThreadPoolExecutor.AbortPolicy());
+        this.permits = new Semaphore(properties.concurrency());
+        this.acquireTimeout = properties.acquireTimeout();
+    }
+
+    @Override
+    public CompletableFuture<Member> findAsync(Long memberId) {
+        return supply(() -> memberFinder.find(memberId));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Member>> findAllAsync(Collection<Long> memberIds) {
+        List<Long> ids = List.copyOf(memberIds);
+        return supply(() -> memberFinder.findAll(ids));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, MemberSummary>> findSummariesAsync(Collection<Long> memberIds) {
+        List<Long> ids = List.copyOf(memberIds);
+        return supply(() -> memberFinder.findSummaries(ids));
+    }
+
+    @Override
+    public CompletableFuture<Member> registerAsync(MemberRegisterRequest registerRequest) {
+        return supply(() -> memberRegister.register(registerRequest));
+    }
+
+    @Override
+    public CompletableFuture<List<MemberRegisterResult>> registerAllAsync(List<MemberRegisterRequest> registerRequests) {
+        List<MemberRegisterRequest> requests = List.copyOf(registerRequests);
+        return supply(() -> memberRegister.registerAll(requests));
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> task) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> withPermit(task), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new MemberAsyncBusyException("대기 중인 회원 작업이 너무 많습니다", e));
+        }
+    }
+
+    private <T> T withPermit(Supplier<T> task) {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MemberAsyncBusyException("실행 중인 회원 작업이 너무 많습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MemberAsyncBusyException("회원 작업 실행을 기다리다 중단되었습니다", e);
+        }
+
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
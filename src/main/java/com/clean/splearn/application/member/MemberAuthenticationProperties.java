@@ -0,0 +1,29 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 로그인 설정
+ *
+ * @param emailCapacity            이메일 하나로 연달아 시도할 수 있는 횟수
+ * @param emailRefillInterval      이메일별 시도 기회가 하나 다시 생기는 간격
+ * @param clientCapacity           클라이언트 주소 하나에서 연달아 시도할 수 있는 횟수
+ * @param clientRefillInterval     클라이언트 주소별 시도 기회가 하나 다시 생기는 간격
+ * @param throttleMaximumKeys      시도 횟수를 기억할 이메일, 주소의 최대 개수
+ * @param verifiedCacheTtl         비밀번호 확인에 성공한 결과를 재사용하는 시간. 0 이면 재사용하지 않는다
+ * @param verifiedCacheMaximumSize 재사용할 확인 결과의 최대 개수
+ */
+@ConfigurationProperties("splearn.member.authentication")
+public record MemberAuthenticationProperties(
+        @DefaultValue("5") int emailCapacity,
+        @DefaultValue("12s") Duration emailRefillInterval,
+        @DefaultValue("50") int clientCapacity,
+        @DefaultValue("200ms") Duration clientRefillInterval,
+        @DefaultValue("100000") long throttleMaximumKeys,
+        @DefaultValue("5m") Duration verifiedCacheTtl,
+        @DefaultValue("100000") long verifiedCacheMaximumSize
+) {
+}
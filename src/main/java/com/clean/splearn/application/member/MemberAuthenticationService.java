@@ -0,0 +1,111 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.MemberAuthenticationException;
+import com.clean.splearn.application.member.provided.MemberAuthenticator;
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberLoginRequest;
+import com.clean.splearn.domain.member.MemberStatus;
+import com.clean.splearn.domain.member.PasswordEncoder;
+import com.clean.splearn.domain.shared.Email;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 로그인. 비용이 큰 비밀번호 해시 비교 앞에 두 단계를 둔다.
+ * <ol>
+ *     <li>이메일별, 클라이언트 주소별 토큰 버킷으로 시도 빈도를 제한한다</li>
+ *     <li>최근에 확인에 성공한 이메일과 비밀번호 조합은 다시 해시하지 않는다. 조합은 기동할 때마다 새로 만드는
+ *     키로 HMAC 한 값으로만 기억하고, 그 사이 비밀번호 해시가 바뀌었으면 재사용하지 않는다</li>
+ * </ol>
+ * 없는 이메일도 해시 비교를 한 번 해서 가입 여부가 응답 시간으로 드러나지 않게 한다.
+ */
+@Service
+@Validated
+@Transactional(readOnly = true)
+public class MemberAuthenticationService implements MemberAuthenticator {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final MemberRepository memberRepository;
+    private final MemberPasswordVerifier memberPasswordVerifier;
+    private final PasswordEncoder passwordEncoder;
+    private final LoginThrottle loginThrottle;
+    private final Cache<String, String> verified;
+    private final SecretKeySpec verifiedKey;
+    private final String dummyPasswordHash;
+
+    public MemberAuthenticationService(MemberRepository memberRepository, MemberPasswordVerifier memberPasswordVerifier,
+                                       PasswordEncoder passwordEncoder, LoginThrottle loginThrottle,
+                                       MemberAuthenticationProperties properties, MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.memberPasswordVerifier = memberPasswordVerifier;
+        this.passwordEncoder = passwordEncoder;
+        this.loginThrottle = loginThrottle;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(properties.verifiedCacheMaximumSize())
+                .expireAfterWrite(properties.verifiedCacheTtl())
+                .recordStats()
+                .build();
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.verifiedKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "member-verified-credentials");
+    }
+
+    @Override
+    public Member authenticate(MemberLoginRequest loginRequest, String clientAddress) {
+        loginThrottle.acquire(loginRequest.email(), clientAddress);
+
+        Member member = memberRepository.findByNaturalId(new Email(loginRequest.email())).orElse(null);
+        if (member == null) {
+            passwordEncoder.matches(loginRequest.password(), dummyPasswordHash);
+            throw new MemberAuthenticationException();
+        }
+
+        if (!verifyPassword(member, loginRequest) || member.getStatus() != MemberStatus.ACTIVE) {
+            throw new MemberAuthenticationException();
+        }
+
+        return member;
+    }
+
+    private boolean verifyPassword(Member member, MemberLoginRequest loginRequest) {
+        String credentials = credentialsKey(loginRequest);
+        if (member.getPasswordHash().equals(verified.getIfPresent(credentials))) return true;
+
+        if (!memberPasswordVerifier.verify(member, loginRequest.password())) return false;
+
+        verified.put(credentials, member.getPasswordHash());
+        return true;
+    }
+
+    private String credentialsKey(MemberLoginRequest loginRequest) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(verifiedKey);
+            mac.update(loginRequest.email().getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(loginRequest.password().getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 회원 일괄 등록 설정
+ *
+ * @param maxBatchSize    한 번에 받을 수 있는 최대 요청 수
+ * @param hashParallelism 동시에 해싱할 비밀번호 수. 0 이면 CPU 코어 수
+ */
+@ConfigurationProperties("splearn.member.bulk-register")
+public record MemberBulkRegisterProperties(
+        @DefaultValue("1000") int maxBatchSize,
+        @DefaultValue("0") int hashParallelism
+) {
+    public int effectiveHashParallelism() {
+        return hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,258 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberEventRepository;
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.*;
+import jakarta.annotation.Nullable;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 일괄 등록.
+ * 검증과 중복 확인을 먼저 끝내고, 비밀번호는 병렬로 해싱한 뒤, 저장은 하나의 트랜잭션에서 배치 insert 로 처리한다.
+ * 해싱 동안에는 DB 커넥션을 잡지 않는다.
+ * 이미 해시된 비밀번호를 받는 경우에는 해싱을 건너뛴다.
+ * 이메일은 DB 의 유니크 인덱스처럼 대소문자를 구분하지 않고 중복을 확인한다.
+ * 중복 확인 뒤에 다른 요청이 같은 이메일로 먼저 가입해 유니크 제약조건에 걸리면, 트랜잭션 안에서 이미 있는 이메일을
+ * 다시 확인해 해당 요청만 실패로 남기고 나머지를 다시 저장한다.
+ */
+@Slf4j
+@Component
+class MemberBulkRegistrar {
+    private static final int MAX_PASSWORD_HASH_LENGTH = 200;
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
+    private final MemberRepository memberRepository;
+    private final MemberEventRepository memberEventRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberExistenceFilter memberExistenceFilter;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberBulkRegisterProperties properties;
+
+    MemberBulkRegistrar(MemberRepository memberRepository, MemberEventRepository memberEventRepository,
+                        PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher,
+                        MemberExistenceFilter memberExistenceFilter, Validator validator,
+                        PlatformTransactionManager transactionManager, MemberBulkRegisterProperties properties) {
+        this.memberRepository = memberRepository;
+        this.memberEventRepository = memberEventRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.memberExistenceFilter = memberExistenceFilter;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    List<MemberRegisterResult> registerAll(List<MemberRegisterRequest> requests) {
+        if (requests.size() > properties.maxBatchSize()) {
+            throw new MemberBulkRegisterLimitExceededException(properties.maxBatchSize());
+        }
+
+        return register(requests, false, results -> {
+        });
+    }
+
+    /**
+     * 건수 제한 없이 등록한다. beforeCommit 은 저장을 마친 뒤 같은 트랜잭션 안에서 전체 결과와 함께 호출된다.
+     *
+     * @param preHashed true 면 password 를 해시된 값으로 보고 길이와 형식만 확인한 뒤 그대로 저장한다
+     */
+    List<MemberRegisterResult> register(List<MemberRegisterRequest> requests, boolean preHashed,
+                                        Consumer<List<MemberRegisterResult>> beforeCommit) {
+        MemberRegisterResult[] results = new MemberRegisterResult[requests.size()];
+
+        Map<Integer, MemberRegisterRequest> candidates = validate(requests, preHashed, results);
+        excludeRegisteredEmails(candidates, results);
+
+        Map<Integer, String> passwordHashes = preHashed
+                ? withPasswordHashes(candidates)
+                : hashPasswords(candidates, results);
+
+        Collection<Member> members = save(candidates, preHashed, passwordHashes, results, beforeCommit);
+
+        members.forEach(member -> memberExistenceFilter.add(member.getEmail()));
+
+        return List.of(results);
+    }
+
+    /**
+     * 유니크 제약조건에 걸리면 트랜잭션을 되돌리고 MAX_SAVE_ATTEMPTS 번까지 다시 저장한다.
+     * 바깥 트랜잭션에 참여한 경우에는 되돌릴 수 없으므로 다시 시도하지 않는다.
+     */
+    private Collection<Member> save(Map<Integer, MemberRegisterRequest> candidates, boolean preHashed,
+                                    Map<Integer, String> passwordHashes, MemberRegisterResult[] results,
+                                    Consumer<List<MemberRegisterResult>> beforeCommit) {
+        boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+
+        for (int attempt = 1; ; attempt++) {
+            boolean recheck = attempt > 1;
+            try {
+                return transactionTemplate.execute(status -> {
+                    if (recheck) excludeRegisteredEmails(candidates, results);
+
+                    Map<Integer, Member> members = createMembers(candidates, preHashed, passwordHashes, results);
+                    members.forEach((index, member) -> {
+                        memberRepository.save(member);
+                        eventPublisher.publishEvent(memberEventRepository.save(MemberEvent.of(member, MemberEventType.REGISTERED)));
+                    });
+                    memberRepository.flush();
+
+                    members.forEach((index, member) -> results[index] = MemberRegisterResult.success(member));
+                    beforeCommit.accept(List.of(results));
+                    return members.values();
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (!retryable || attempt >= MAX_SAVE_ATTEMPTS) throw e;
+
+                log.info("회원 일괄 저장 중 제약조건에 걸려 이미 있는 이메일을 빼고 다시 저장합니다. attempt={}", attempt);
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션을 다시 시도할 때마다 새 엔티티가 필요하므로 저장 직전에 만든다.
+     */
+    private Map<Integer, Member> createMembers(Map<Integer, MemberRegisterRequest> candidates, boolean preHashed,
+                                               Map<Integer, String> passwordHashes, MemberRegisterResult[] results) {
+        Map<Integer, Member> members = new LinkedHashMap<>();
+        candidates.forEach((index, request) -> {
+            String passwordHash = passwordHashes.get(index);
+            if (passwordHash == null) return;
+
+            try {
+                members.put(index, preHashed
+                        ? Member.registerWithPasswordHash(request.email(), request.nickname(), passwordHash, passwordEncoder)
+                        : Member.registerWithEncodedPassword(request, passwordHash));
+            } catch (RuntimeException e) {
+                results[index] = MemberRegisterResult.failure(request.email(), String.valueOf(e.getMessage()));
+            }
+        });
+
+        return members;
+    }
+
+    private Map<Integer, MemberRegisterRequest> validate(List<MemberRegisterRequest> requests, boolean preHashed,
+                                                         MemberRegisterResult[] results) {
+        Map<Integer, MemberRegisterRequest> candidates = new LinkedHashMap<>();
+        Set<String> emails = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            MemberRegisterRequest request = requests.get(i);
+            String failure = preHashed ? validatePreHashed(request) : describe(validator.validate(request));
+
+            if (failure != null) {
+                results[i] = MemberRegisterResult.failure(request.email(), failure);
+            } else if (!emails.add(normalize(request.email()))) {
+                results[i] = MemberRegisterResult.failure(request.email(), "요청 안에서 중복된 이메일입니다");
+            } else {
+                candidates.put(i, request);
+            }
+        }
+
+        return candidates;
+    }
+
+    @Nullable
+    private String validatePreHashed(MemberRegisterRequest request) {
+        Set<ConstraintViolation<MemberRegisterRequest>> violations = new HashSet<>(validator.validateProperty(request, "email"));
+        violations.addAll(validator.validateProperty(request, "nickname"));
+        if (!violations.isEmpty()) return describe(violations);
+
+        String passwordHash = request.password();
+        if (passwordHash == null || passwordHash.isBlank() || passwordHash.length() > MAX_PASSWORD_HASH_LENGTH) {
+            return "password: 비밀번호 해시는 1자 이상 " + MAX_PASSWORD_HASH_LENGTH + "자 이하여야 합니다";
+        }
+        if (!passwordEncoder.isRecognizedHash(passwordHash)) {
+            return "password: 알 수 없는 비밀번호 해시 형식입니다";
+        }
+        return null;
+    }
+
+    private void excludeRegisteredEmails(Map<Integer, MemberRegisterRequest> candidates, MemberRegisterResult[] results) {
+        if (candidates.isEmpty()) return;
+
+        Set<String> emails = candidates.values().stream().map(MemberRegisterRequest::email).collect(Collectors.toSet());
+        Set<String> registered = memberRepository.findExistingEmailAddresses(emails).stream()
+                .map(MemberBulkRegistrar::normalize)
+                .collect(Collectors.toSet());
+
+        candidates.entrySet().removeIf(entry -> {
+            if (!registered.contains(normalize(entry.getValue().email()))) return false;
+
+            results[entry.getKey()] = MemberRegisterResult.failure(entry.getValue().email(), "이미 사용중인 이메일입니다");
+            return true;
+        });
+    }
+
+    private Map<Integer, String> hashPasswords(Map<Integer, MemberRegisterRequest> candidates, MemberRegisterResult[] results) {
+        Semaphore permits = new Semaphore(properties.effectiveHashParallelism());
+        Map<Integer, Future<String>> futures = new LinkedHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            candidates.forEach((index, request) -> futures.put(index, executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return passwordEncoder.encode(request.password());
+                } finally {
+                    permits.release();
+                }
+            })));
+        }
+
+        Map<Integer, String> passwordHashes = new LinkedHashMap<>();
+        futures.forEach((index, future) -> {
+            try {
+                passwordHashes.put(index, future.get());
+            } catch (ExecutionException e) {
+                results[index] = MemberRegisterResult.failure(candidates.get(index).email(), String.valueOf(e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("회원 일괄 등록이 중단되었습니다", e);
+            }
+        });
+
+        return passwordHashes;
+    }
+
+    private static Map<Integer, String> withPasswordHashes(Map<Integer, MemberRegisterRequest> candidates) {
+        Map<Integer, String> passwordHashes = new LinkedHashMap<>();
+        candidates.forEach((index, request) -> passwordHashes.put(index, request.password()));
+
+        return passwordHashes;
+    }
+
+    @Nullable
+    private static String describe(Set<ConstraintViolation<MemberRegisterRequest>> violations) {
+        if (violations.isEmpty()) return null;
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * MySQL 의 이메일 유니크 인덱스는 대소문자를 구분하지 않으므로, 같은 이메일인지도 소문자로 바꿔 비교한다.
+     */
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
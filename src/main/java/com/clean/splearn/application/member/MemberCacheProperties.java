@@ -0,0 +1,32 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 회원 조회 캐시 설정
+ *
+ * @param maximumSize 노드 안 캐시(L1)에 담는 최대 회원 요약 수
+ * @param ttl         노드 안 캐시(L1)의 유효 시간. 다른 노드에서 일어난 변경은 최대 이 시간만큼 늦게 보인다
+ * @param shared      여러 노드가 함께 쓰는 캐시(L2) 설정
+ */
+@ConfigurationProperties("splearn.member.cache")
+public record MemberCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue Shared shared
+) {
+    /**
+     * @param enabled      true 면 공유 캐시(L2)를 쓴다
+     * @param ttl          공유 캐시(L2)의 유효 시간
+     * @param tombstoneTtl 지운 회원을 다시 담지 않는 시간. 회원 한 명을 DB 에서 읽는 시간보다 넉넉히 길게 둔다
+     */
+    public record Shared(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("10m") Duration ttl,
+            @DefaultValue("5s") Duration tombstoneTtl
+    ) {
+    }
+}
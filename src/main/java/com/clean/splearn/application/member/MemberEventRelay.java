@@ -0,0 +1,128 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberEventRepository;
+import com.clean.splearn.application.member.required.MemberEventSubscriber;
+import com.clean.splearn.domain.member.MemberEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 아웃박스에 쌓인 회원 이벤트를 구독자에게 전달하고 발행 완료로 표시한다.
+ * 구독자는 모두 성공해야 발행 완료가 되므로, 실패한 이벤트는 이미 성공한 구독자에게도 다시 전달된다(at-least-once).
+ * 행 잠금은 이벤트를 가져가는 짧은 트랜잭션에서만 쥐고, 전달은 트랜잭션 밖에서 기다린다.
+ */
+@Slf4j
+@Service
+public class MemberEventRelay {
+    private final MemberEventRepository memberEventRepository;
+    private final List<MemberEventSubscriber> subscribers;
+    private final MemberEventRetryProperties retryProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public MemberEventRelay(MemberEventRepository memberEventRepository, List<MemberEventSubscriber> subscribers,
+                            MemberEventRetryProperties retryProperties, TransactionTemplate transactionTemplate) {
+        this.memberEventRepository = memberEventRepository;
+        this.subscribers = List.copyOf(subscribers);
+        this.retryProperties = retryProperties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 최대 batchSize 개의 이벤트를 가져가 구독자에게 맡기고, 결과를 claimTimeout 까지 기다려 기록한다.
+     * 실패했거나 그때까지 끝나지 않은 이벤트는 점점 길게 미룬다.
+     *
+     * @return 발행 완료로 표시한 이벤트 수
+     */
+    public int relay(int batchSize) {
+        List<MemberEvent> events = requireNonNull(transactionTemplate.execute(status -> claim(batchSize)));
+        if (events.isEmpty()) return 0;
+
+        List<Delivery> deliveries = events.stream().map(this::deliver).toList();
+        await(deliveries);
+
+        return requireNonNull(transactionTemplate.execute(status -> record(deliveries)));
+    }
+
+    private List<MemberEvent> claim(int batchSize) {
+        List<MemberEvent> events = memberEventRepository.findDeliverable(LocalDateTime.now(), Limit.of(batchSize));
+        events.forEach(event -> event.claim(retryProperties.claimTimeout()));
+
+        return events;
+    }
+
+    private Delivery deliver(MemberEvent event) {
+        CompletableFuture<?>[] results = subscribers.stream()
+                .map(subscriber -> handle(subscriber, event))
+                .toArray(CompletableFuture[]::new);
+
+        return new Delivery(event, CompletableFuture.allOf(results));
+    }
+
+    private CompletableFuture<Void> handle(MemberEventSubscriber subscriber, MemberEvent event) {
+        try {
+            return subscriber.handle(event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void await(List<Delivery> deliveries) {
+        CompletableFuture<?>[] results = deliveries.stream().map(Delivery::result).toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(results).get(retryProperties.claimTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 어느 이벤트가 실패했거나 끝나지 않았는지는 기록하면서 하나씩 확인한다
+        }
+    }
+
+    private int record(List<Delivery> deliveries) {
+        int published = 0;
+
+        for (Delivery delivery : deliveries) {
+            MemberEvent event = delivery.event();
+
+            if (delivery.result().state() == Future.State.SUCCESS) {
+                event.markPublished();
+                published++;
+            } else {
+                Duration backoff = backoff(event.getAttempts());
+                event.recordFailure(backoff);
+                log.warn("회원 이벤트 전달에 실패했습니다. {} 뒤에 다시 시도합니다: {}", backoff, event, delivery.failure());
+            }
+
+            memberEventRepository.save(event);
+        }
+
+        return published;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = retryProperties.initialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+
+        return backoff.compareTo(retryProperties.maxBackoff()) > 0 ? retryProperties.maxBackoff() : backoff;
+    }
+
+    private record Delivery(MemberEvent event, CompletableFuture<Void> result) {
+        Throwable failure() {
+            return result.state() == Future.State.FAILED
+                    ? result.exceptionNow()
+                    : new TimeoutException("전달 결과를 기다리는 시간이 지났습니다");
+        }
+    }
+}
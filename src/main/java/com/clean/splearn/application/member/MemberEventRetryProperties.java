@@ -0,0 +1,21 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 이벤트 재시도 설정. 실패할 때마다 기다리는 시간을 두 배로 늘린다.
+ *
+ * @param initialBackoff 처음 실패한 뒤 다시 시도하기까지의 시간
+ * @param maxBackoff     다시 시도하기까지 가장 오래 기다리는 시간
+ * @param claimTimeout   릴레이가 이벤트를 가져간 뒤 전달 결과를 기다리는 시간. 그동안 다른 릴레이는 그 이벤트를 건너뛴다
+ */
+@ConfigurationProperties("splearn.outbox.retry")
+public record MemberEventRetryProperties(
+        @DefaultValue("10s") Duration initialBackoff,
+        @DefaultValue("1h") Duration maxBackoff,
+        @DefaultValue("1m") Duration claimTimeout
+) {
+}
@@ -0,0 +1,86 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.Profile;
+import com.clean.splearn.domain.shared.Email;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 이미 사용 중인 이메일과 프로필 주소를 블룸 필터로 기억한다.
+ * 필터가 "없다"고 답하면 DB 를 조회하지 않고 중복이 아니라고 판단할 수 있다.
+ * 기동 후 DB 의 모든 값을 읽어 채우며, 채우기 전에는 항상 "있을 수 있다"고 답한다.
+ * 다른 노드에서 추가된 값은 이 노드의 필터에 없을 수 있으므로 최종 판단은 DB 의 유니크 제약이 맡는다.
+ */
+@Slf4j
+@Component
+public class MemberExistenceFilter {
+    private final MemberRepository memberRepository;
+    private final MemberExistenceFilterProperties properties;
+    private final BloomFilter emails;
+    private final BloomFilter profiles;
+    private final Counter absentCounter;
+    private final Counter maybePresentCounter;
+
+    private volatile boolean ready;
+
+    public MemberExistenceFilter(MemberRepository memberRepository, MemberExistenceFilterProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.properties = properties;
+        this.emails = new BloomFilter(properties.expectedInsertions(), properties.falsePositiveProbability());
+        this.profiles = new BloomFilter(properties.expectedInsertions(), properties.falsePositiveProbability());
+        this.absentCounter = Counter.builder("splearn.member.existence.filter")
+                .description("필터만으로 중복이 아님을 확인한 횟수")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.maybePresentCounter = Counter.builder("splearn.member.existence.filter")
+                .description("필터로 판단하지 못해 DB 로 확인한 횟수")
+                .tag("result", "maybe")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        if (!properties.enabled()) return;
+
+        try (Stream<String> emailAddresses = memberRepository.streamEmailAddresses()) {
+            emailAddresses.forEach(emails::put);
+        }
+        try (Stream<String> profileAddresses = memberRepository.streamProfileAddresses()) {
+            profileAddresses.forEach(profiles::put);
+        }
+
+        ready = true;
+        log.info("회원 중복 확인 필터 준비 완료");
+    }
+
+    public boolean mightContain(Email email) {
+        return record(!ready || emails.mightContain(email.address()));
+    }
+
+    public boolean mightContain(Profile profile) {
+        return record(!ready || profiles.mightContain(profile.address()));
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? maybePresentCounter : absentCounter).increment();
+        return mightContain;
+    }
+
+    public void add(Email email) {
+        emails.put(email.address());
+    }
+
+    public void add(Profile profile) {
+        profiles.put(profile.address());
+    }
+}
@@ -0,0 +1,19 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 이메일, 프로필 주소 중복 확인 전 단계 필터 설정
+ *
+ * @param enabled                  사용 여부. 끄면 항상 DB 로 확인한다
+ * @param expectedInsertions       필터 하나에 담을 것으로 예상하는 값의 수
+ * @param falsePositiveProbability 없는 값을 "있을 수 있다"고 답할 확률
+ */
+@ConfigurationProperties("splearn.member.existence-filter")
+public record MemberExistenceFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveProbability
+) {
+}
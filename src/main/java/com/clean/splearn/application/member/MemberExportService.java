@@ -0,0 +1,34 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.MemberExporter;
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.MemberExportRow;
+import com.clean.splearn.domain.member.MemberStatus;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class MemberExportService implements MemberExporter {
+    private final MemberRepository memberRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(@Nullable MemberStatus status, Consumer<MemberExportRow> consumer) {
+        long count = 0;
+
+        try (Stream<MemberExportRow> rows = memberRepository.streamExportRows(status)) {
+            for (Iterator<MemberExportRow> iterator = rows.iterator(); iterator.hasNext(); count++) {
+                consumer.accept(iterator.next());
+            }
+        }
+
+        return count;
+    }
+}
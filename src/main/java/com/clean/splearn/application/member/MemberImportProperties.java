@@ -0,0 +1,17 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 회원 가져오기 설정
+ *
+ * @param chunkSize         한 트랜잭션에서 등록하고 체크포인트를 남기는 행 수
+ * @param maxReportedErrors 결과에 담을 실패 행의 최대 개수. 넘는 실패는 건수만 센다
+ */
+@ConfigurationProperties("splearn.member.import")
+public record MemberImportProperties(
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("1000") int maxReportedErrors
+) {
+}
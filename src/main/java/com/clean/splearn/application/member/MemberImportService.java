@@ -0,0 +1,125 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.MemberImporter;
+import com.clean.splearn.application.member.required.MemberImportCheckpointRepository;
+import com.clean.splearn.domain.member.MemberImportCheckpoint;
+import com.clean.splearn.domain.member.MemberImportError;
+import com.clean.splearn.domain.member.MemberImportLine;
+import com.clean.splearn.domain.member.MemberImportReport;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.member.MemberRegisterResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 행을 chunkSize 만큼 모아 일괄 등록하고, 같은 트랜잭션에서 체크포인트를 옮긴다.
+ * 한 번에 메모리에 올라가는 것은 청크 하나뿐이고, 중간에 실패해도 커밋된 청크까지는 남는다.
+ * 트랜잭션은 청크마다 따로 열리므로 이 서비스에는 트랜잭션을 걸지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberImportService implements MemberImporter {
+    private final MemberBulkRegistrar memberBulkRegistrar;
+    private final MemberImportCheckpointRepository checkpointRepository;
+    private final MemberImportProperties properties;
+
+    @Override
+    public MemberImportReport importMembers(String jobId, boolean preHashed, Iterator<MemberImportLine> lines) {
+        Assert.hasText(jobId, "jobId 가 비어 있습니다");
+
+        ImportRun run = new ImportRun(jobId, preHashed,
+                checkpointRepository.findByJobId(jobId).map(MemberImportCheckpoint::getLastLine).orElse(0L));
+
+        List<MemberImportLine> chunk = new ArrayList<>(properties.chunkSize());
+        while (lines.hasNext()) {
+            MemberImportLine line = lines.next();
+            if (line.number() <= run.resumedAfter) continue;
+
+            chunk.add(line);
+            if (chunk.size() >= properties.chunkSize()) {
+                run.process(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) run.process(chunk);
+
+        MemberImportReport report = run.report();
+        log.info("member import {} finished: imported={}, failed={}, {} rows/s",
+                jobId, report.imported(), report.failed(), Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    private final class ImportRun {
+        private final String jobId;
+        private final boolean preHashed;
+        private final long resumedAfter;
+        private final long startedAt = System.nanoTime();
+        private final List<MemberImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private ImportRun(String jobId, boolean preHashed, long resumedAfter) {
+            this.jobId = jobId;
+            this.preHashed = preHashed;
+            this.resumedAfter = resumedAfter;
+        }
+
+        /**
+         * 저장이 제약조건에 걸려 다시 시도되면 체크포인트도 되돌려지므로, 시도마다 커밋된 체크포인트를 다시 읽어 옮긴다.
+         * 되돌려진 시도에서 센 값은 다음 시도에 더해지지 않는다.
+         */
+        private void process(List<MemberImportLine> chunk) {
+            List<MemberImportLine> readable = new ArrayList<>(chunk.size());
+            List<MemberRegisterRequest> requests = new ArrayList<>(chunk.size());
+            long unreadable = 0;
+            for (MemberImportLine line : chunk) {
+                if (line.request() == null) {
+                    unreadable++;
+                    recordError(new MemberImportError(line.number(), null, String.valueOf(line.error())));
+                    continue;
+                }
+                readable.add(line);
+                requests.add(line.request());
+            }
+
+            long lastLine = chunk.getLast().number();
+            long chunkUnreadable = unreadable;
+            List<MemberRegisterResult> results = memberBulkRegistrar.register(requests, preHashed, chunkResults -> {
+                long succeeded = chunkResults.stream().filter(MemberRegisterResult::isSuccess).count();
+                MemberImportCheckpoint checkpoint = checkpointRepository.findByJobId(jobId)
+                        .orElseGet(() -> MemberImportCheckpoint.start(jobId));
+                checkpoint.advance(lastLine, succeeded, chunkResults.size() - succeeded + chunkUnreadable);
+                checkpointRepository.save(checkpoint);
+            });
+
+            for (int i = 0; i < results.size(); i++) {
+                MemberRegisterResult result = results.get(i);
+                if (result.isSuccess()) {
+                    imported++;
+                } else {
+                    recordError(new MemberImportError(readable.get(i).number(), result.email(), String.valueOf(result.failure())));
+                }
+            }
+
+            long elapsed = System.nanoTime() - startedAt;
+            log.info("member import {}: committed through line {}, imported={}, failed={}, {} rows/s",
+                    jobId, lastLine, imported, failed, Math.round((imported + failed) * 1_000_000_000d / elapsed));
+        }
+
+        private void recordError(MemberImportError error) {
+            failed++;
+            if (errors.size() < properties.maxReportedErrors()) errors.add(error);
+        }
+
+        private MemberImportReport report() {
+            return MemberImportReport.of(jobId, resumedAfter, imported, failed, System.nanoTime() - startedAt, errors);
+        }
+    }
+}
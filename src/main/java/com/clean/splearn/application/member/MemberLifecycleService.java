@@ -0,0 +1,68 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberEventRepository;
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberEvent;
+import com.clean.splearn.domain.member.MemberEventType;
+import com.clean.splearn.domain.member.MemberStatus;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.util.Assert.state;
+
+/**
+ * 회원 상태를 청크 단위로 한꺼번에 바꾼다. 호출 한 번이 청크 하나이고 트랜잭션 하나다.
+ * 대상은 SKIP LOCKED 로 잠그므로 여러 노드가 동시에 실행해도 같은 회원을 두 번 바꾸지 않고,
+ * 잠금은 청크가 커밋될 때까지만 유지된다.
+ * 상태 변경은 엔티티마다 하지 않고 bulk UPDATE 로 처리하며, Member.expire() 와 deactivate() 의 전제 조건을
+ * where 절로 옮겨 지킨다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MemberLifecycleService {
+    private final MemberRepository memberRepository;
+    private final MemberEventRepository memberEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * registeredBefore 전에 가입하고도 활성화하지 않은 회원을 최대 chunkSize 명 만료시킨다.
+     *
+     * @return 만료시킨 회원 수
+     */
+    public int expirePending(LocalDateTime registeredBefore, int chunkSize) {
+        return transition(MemberStatus.PENDING, MemberStatus.EXPIRED, MemberEventType.EXPIRED, registeredBefore, chunkSize);
+    }
+
+    /**
+     * registeredBefore 전에 가입한 활성 회원을 최대 chunkSize 명 비활성화한다.
+     *
+     * @return 비활성화한 회원 수
+     */
+    public int deactivateActive(LocalDateTime registeredBefore, int chunkSize) {
+        return transition(MemberStatus.ACTIVE, MemberStatus.DEACTIVATED, MemberEventType.DEACTIVATED, registeredBefore, chunkSize);
+    }
+
+    private int transition(MemberStatus from, MemberStatus to, MemberEventType eventType,
+                           LocalDateTime registeredBefore, int chunkSize) {
+        List<Member> members = memberRepository.findForTransition(from, registeredBefore, Limit.of(chunkSize));
+        if (members.isEmpty()) return 0;
+
+        List<Long> memberIds = members.stream().map(Member::getId).toList();
+
+        int updated = memberRepository.updateStatus(memberIds, from, to);
+        state(updated == memberIds.size(), "잠근 회원의 상태가 바뀌었습니다");
+        memberRepository.updateDeactivatedAt(memberIds, LocalDateTime.now());
+
+        members.forEach(member -> eventPublisher.publishEvent(memberEventRepository.save(MemberEvent.of(member, eventType))));
+
+        return members.size();
+    }
+}
@@ -1,37 +1,72 @@
 package com.clean.splearn.application.member;
 
 import com.clean.splearn.application.member.provided.MemberFinder;
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
 import com.clean.splearn.application.member.provided.MemberRegister;
-import com.clean.splearn.application.member.required.EmailSender;
+import com.clean.splearn.application.member.provided.MemberVersionConflictException;
+import com.clean.splearn.application.member.required.MemberEventRepository;
 import com.clean.splearn.application.member.required.MemberRepository;
 import com.clean.splearn.domain.member.*;
 import com.clean.splearn.domain.shared.Email;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+import java.util.Locale;
+
 @Service
 @Transactional
 @Validated
 @RequiredArgsConstructor
 public class MemberModifyService implements MemberRegister {
+    private static final String EMAIL_CONSTRAINT = "UK_MEMBER_EMAIL_ADDRESS";
+    private static final String PROFILE_CONSTRAINT = "UK_MEMBER_DETAIL_PROFILE_ADDRESS";
+
     private final MemberFinder memberFinder;
     private final MemberRepository memberRepository;
-    private final EmailSender emailSender;
+    private final MemberEventRepository memberEventRepository;
     private final PasswordEncoder passwordEncoder;
-
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberExistenceFilter memberExistenceFilter;
+    private final MemberBulkRegistrar memberBulkRegistrar;
+    private final MemberRegistrationLocks memberRegistrationLocks;
+    private final MemberRegistrationProperties memberRegistrationProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 이미 가입한 이메일은 해싱 전에 걸러 낸다. 비밀번호 해싱은 오래 걸리므로 트랜잭션과 잠금 밖에서 하고,
+     * 잠금은 저장에만 건다. 확인한 뒤 동시에 가입한 요청은 flush 의 유니크 제약조건으로 걸린다.
+     */
     @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public Member register(MemberRegisterRequest registerRequest) {
-        checkDuplicateEmail(registerRequest);
+        if (!memberRegistrationProperties.constraintOnly()) checkDuplicateEmail(registerRequest);
 
         Member member = Member.register(registerRequest, passwordEncoder);
 
-        memberRepository.save(member);
+        return transactionTemplate.execute(status -> {
+            memberRegistrationLocks.lockUntilCompletion("email:" + registerRequest.email());
 
-        sendWelcomeEmail(member);
+            memberRepository.save(member);
+            flush(member);
+            memberExistenceFilter.add(member.getEmail());
 
-        return member;
+            recordEvent(member, MemberEventType.REGISTERED);
+
+            return member;
+        });
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<MemberRegisterResult> registerAll(List<MemberRegisterRequest> registerRequests) {
+        return memberBulkRegistrar.registerAll(registerRequests);
     }
 
     @Override
@@ -40,6 +75,8 @@ public class MemberModifyService implements MemberRegister {
 
         member.activate();
 
+        recordEvent(member, MemberEventType.ACTIVATED);
+
         return memberRepository.save(member);
     }
 
@@ -49,18 +86,73 @@ public class MemberModifyService implements MemberRegister {
 
         member.deactivate();
 
+        recordEvent(member, MemberEventType.DEACTIVATED);
+
         return memberRepository.save(member);
     }
 
     @Override
     public Member updateInfo(Long memberId, MemberInfoUpdateRequest memberInfoUpdateRequest) {
-        Member member = memberFinder.find(memberId);
+        return updateInfo(findForUpdate(memberId), memberInfoUpdateRequest);
+    }
+
+    @Override
+    public Member updateInfo(Long memberId, long expectedVersion, MemberInfoUpdateRequest memberInfoUpdateRequest) {
+        Member member = findForUpdate(memberId);
+        if (member.getVersion() == null || member.getVersion() != expectedVersion) {
+            throw new MemberVersionConflictException(memberId, expectedVersion);
+        }
 
-        checkDuplicateProfile(member, memberInfoUpdateRequest.profileAddress());
+        return updateInfo(member, memberInfoUpdateRequest);
+    }
+
+    /**
+     * 정보 수정은 회원 상세만 바꿀 수도 있으므로 커밋할 때 회원의 버전을 강제로 올린다.
+     * 동시에 수정한 요청 중 늦게 커밋하는 쪽은 덮어쓰지 않고 실패한다.
+     */
+    private Member findForUpdate(Long memberId) {
+        return memberRepository.findForUpdateById(memberId)
+                .orElseThrow(() -> new MemberNotFoundException(memberId));
+    }
+
+    private Member updateInfo(Member member, MemberInfoUpdateRequest memberInfoUpdateRequest) {
+        String profileAddress = memberInfoUpdateRequest.profileAddress();
+        if (!profileAddress.isEmpty()) memberRegistrationLocks.lockUntilCompletion("profile:" + profileAddress);
+        if (!memberRegistrationProperties.constraintOnly()) checkDuplicateProfile(member, profileAddress);
 
         member.updateInfo(memberInfoUpdateRequest);
 
-        return memberRepository.save(member);
+        memberRepository.save(member);
+        flush(member);
+        memberExistenceFilter.add(member.getDetail().getProfile());
+
+        recordEvent(member, MemberEventType.INFO_UPDATED);
+
+        return member;
+    }
+
+    /**
+     * 변경을 바로 반영해 유니크 제약조건 위반을 도메인 예외로 바꾼다.
+     * 미리 확인했더라도 동시에 들어온 요청과 경합하면 여기서 걸린다.
+     */
+    private void flush(Member member) {
+        try {
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, EMAIL_CONSTRAINT)) {
+                throw new DuplicateEmailException("이미 사용중인 이메일입니다 : " + member.getEmail().address());
+            }
+            if (violates(e, PROFILE_CONSTRAINT)) {
+                throw new DuplicateProfileException("이미 존재하는 프로필 주소 입니다: " + member.getDetail().getProfile().address());
+            }
+            throw e;
+        }
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+
+        return message != null && message.toUpperCase(Locale.ROOT).contains(constraint);
     }
 
     private void checkDuplicateProfile(Member member, String profileAddress) {
@@ -68,17 +160,21 @@ public class MemberModifyService implements MemberRegister {
         Profile currentProfile = member.getDetail().getProfile();
         if (currentProfile != null && currentProfile.address().equals(profileAddress)) return;
 
-        if (memberRepository.findByProfile(new Profile(profileAddress)).isPresent()) {
+        Profile profile = new Profile(profileAddress);
+        if (memberExistenceFilter.mightContain(profile) && memberRepository.existsByDetailProfile(profile)) {
             throw new DuplicateProfileException("이미 존재하는 프로필 주소 입니다: " + profileAddress);
         }
     }
 
-    private void sendWelcomeEmail(Member member) {
-        emailSender.send(member.getEmail(), "등록을 완료해주세요", "아래 링크를 클릭해서 등록을 완료해주세요");
+    private void recordEvent(Member member, MemberEventType type) {
+        MemberEvent event = memberEventRepository.save(MemberEvent.of(member, type));
+
+        eventPublisher.publishEvent(event);
     }
 
     private void checkDuplicateEmail(MemberRegisterRequest registerRequest) {
-        if (memberRepository.findByEmail(new Email(registerRequest.email())).isPresent()) {
+        Email email = new Email(registerRequest.email());
+        if (memberExistenceFilter.mightContain(email) && memberRepository.findByNaturalId(email).isPresent()) {
             throw new DuplicateEmailException("이미 사용중인 이메일입니다 : " + registerRequest.email());
         }
     }
@@ -0,0 +1,88 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.PasswordEncoder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원의 비밀번호를 검증한다. 예전 알고리즘이나 파라미터로 만든 해시였다면 백그라운드에서 현재 설정으로 다시 해시해 저장한다.
+ * 검증 결과는 다시 해시하는 시간을 기다리지 않는다.
+ */
+@Slf4j
+@Service
+public class MemberPasswordVerifier {
+    private static final int UPGRADE_QUEUE_CAPACITY = 1000;
+
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final CachingMemberFinder memberFinder;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor upgradeExecutor;
+
+    public MemberPasswordVerifier(MemberRepository memberRepository, PasswordEncoder passwordEncoder,
+                                  CachingMemberFinder memberFinder, PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.memberFinder = memberFinder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.upgradeExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(UPGRADE_QUEUE_CAPACITY),
+                Thread.ofPlatform().daemon().name("password-upgrade-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean verify(Member member, String password) {
+        if (!member.verifyPassword(password, passwordEncoder)) return false;
+
+        if (member.needsPasswordUpgrade(passwordEncoder)) {
+            requestUpgrade(member.getId(), member.getPasswordHash(), password);
+        }
+
+        return true;
+    }
+
+    private void requestUpgrade(Long memberId, String outdatedHash, String password) {
+        try {
+            upgradeExecutor.execute(() -> upgrade(memberId, outdatedHash, password));
+        } catch (RejectedExecutionException e) {
+            log.debug("비밀번호 재해시 대기열이 가득 차서 다음 검증으로 미룹니다. id: {}", memberId);
+        }
+    }
+
+    /**
+     * 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않는다.
+     * 회원 이벤트 없이 버전이 바뀌므로 커밋한 뒤 캐시에서 직접 지운다.
+     */
+    private void upgrade(Long memberId, String outdatedHash, String password) {
+        try {
+            Boolean upgraded = transactionTemplate.execute(status -> memberRepository.findById(memberId)
+                    .filter(member -> member.getPasswordHash().equals(outdatedHash))
+                    .map(member -> {
+                        member.changePassword(password, passwordEncoder);
+                        memberRepository.save(member);
+                        return true;
+                    })
+                    .orElse(false));
+
+            if (Boolean.TRUE.equals(upgraded)) memberFinder.evict(memberId);
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 재해시에 실패했습니다. id: {}", memberId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        upgradeExecutor.shutdown();
+    }
+}
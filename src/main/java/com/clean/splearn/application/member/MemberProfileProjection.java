@@ -0,0 +1,59 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberProfileViewRepository;
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.MemberEvent;
+import com.clean.splearn.domain.member.MemberProfileView;
+import com.clean.splearn.domain.member.MemberStatus;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 이벤트를 따라 공개 프로필 읽기 모델(member_profile_view)을 고친다.
+ * 이벤트를 발행한 트랜잭션 안에서 바로 처리하므로 회원 변경과 읽기 모델이 함께 커밋된다.
+ * 프로필은 활성 회원만 정보 수정으로 가질 수 있으므로 INFO_UPDATED 에서 쓰고, 비활성화나 만료에서 지운다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MemberProfileProjection {
+    private final MemberRepository memberRepository;
+    private final MemberProfileViewRepository memberProfileViewRepository;
+
+    @EventListener
+    public void on(MemberEvent event) {
+        switch (event.getType()) {
+            case INFO_UPDATED -> project(event.getMemberId());
+            case DEACTIVATED, EXPIRED -> memberProfileViewRepository.deleteByMemberId(event.getMemberId());
+            default -> {
+            }
+        }
+    }
+
+    private void project(Long memberId) {
+        memberRepository.findWithDetailById(memberId)
+                .filter(member -> member.getStatus() == MemberStatus.ACTIVE && member.getDetail().getProfile() != null)
+                .ifPresentOrElse(member -> memberProfileViewRepository.save(MemberProfileView.of(member)),
+                        () -> memberProfileViewRepository.deleteByMemberId(memberId));
+    }
+
+    /**
+     * 읽기 모델을 비우고 회원 테이블에서 다시 채운다. 한 트랜잭션이라 커밋 전까지는 이전 내용이 보인다.
+     * 그 사이의 프로필 변경과 경합하지 않도록 쓰기가 적을 때 실행한다.
+     *
+     * @return 다시 채운 행 수
+     */
+    public int rebuild() {
+        int deleted = memberProfileViewRepository.deleteAllViews();
+        int inserted = memberProfileViewRepository.insertFromMembers(MemberStatus.ACTIVE, LocalDateTime.now());
+
+        log.info("member_profile_view rebuilt: deleted={}, inserted={}", deleted, inserted);
+        return inserted;
+    }
+}
@@ -0,0 +1,23 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
+import com.clean.splearn.application.member.provided.MemberProfileFinder;
+import com.clean.splearn.application.member.required.MemberProfileViewRepository;
+import com.clean.splearn.domain.member.MemberProfileSummary;
+import com.clean.splearn.domain.member.Profile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MemberProfileQueryService implements MemberProfileFinder {
+    private final MemberProfileViewRepository memberProfileViewRepository;
+
+    @Override
+    public MemberProfileSummary find(Profile profile) {
+        return memberProfileViewRepository.findSummaryByProfileAddress(profile.address())
+                .orElseThrow(() -> new MemberNotFoundException(profile));
+    }
+}
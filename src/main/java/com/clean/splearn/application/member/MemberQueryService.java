@@ -1,23 +1,106 @@
 package com.clean.splearn.application.member;
 
 import com.clean.splearn.application.member.provided.MemberFinder;
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
 import com.clean.splearn.application.member.required.MemberRepository;
 import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberPage;
+import com.clean.splearn.domain.member.MemberSearchCondition;
+import com.clean.splearn.domain.member.MemberSummary;
+import jakarta.annotation.Nullable;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 @Service
 @Transactional
 @Validated
 @RequiredArgsConstructor
 public class MemberQueryService implements MemberFinder {
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_IN_SIZE = 1000;
+
     private final MemberRepository memberRepository;
 
     @Override
     public Member find(Long memberId) {
-        return memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다. id: " + memberId));
+        return memberRepository.findWithDetailById(memberId)
+                .orElseThrow(() -> new MemberNotFoundException(memberId));
+    }
+
+    @Override
+    public Member findLatest(Long memberId) {
+        return find(memberId);
+    }
+
+    @Override
+    public MemberSummary findSummary(Long memberId) {
+        return memberRepository.findSummaryById(memberId)
+                .orElseThrow(() -> new MemberNotFoundException(memberId));
+    }
+
+    @Override
+    public long findVersion(Long memberId) {
+        return memberRepository.findVersionById(memberId)
+                .orElseThrow(() -> new MemberNotFoundException(memberId));
+    }
+
+    @Override
+    public Map<Long, Member> findAll(Collection<Long> memberIds) {
+        return findAllByIdIn(memberIds, memberRepository::findAllWithDetailByIdIn, Member::getId);
+    }
+
+    @Override
+    public Map<Long, MemberSummary> findSummaries(Collection<Long> memberIds) {
+        return findAllByIdIn(memberIds, memberRepository::findSummariesByIdIn, MemberSummary::id);
+    }
+
+    /**
+     * IN 목록이 너무 길어지지 않도록 MAX_IN_SIZE 개씩 나눠 조회하고, 요청한 id 순서대로 담는다.
+     */
+    private static <T> Map<Long, T> findAllByIdIn(Collection<Long> memberIds, Function<List<Long>, List<T>> query,
+                                                  Function<T, Long> idOf) {
+        List<Long> ids = memberIds.stream().distinct().toList();
+
+        Map<Long, T> found = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_IN_SIZE) {
+            query.apply(ids.subList(from, Math.min(from + MAX_IN_SIZE, ids.size())))
+                    .forEach(item -> found.put(idOf.apply(item), item));
+        }
+
+        Map<Long, T> result = new LinkedHashMap<>();
+        ids.stream().filter(found::containsKey).forEach(id -> result.put(id, found.get(id)));
+        return result;
+    }
+
+    @Override
+    public MemberPage search(MemberSearchCondition condition, @Nullable Long cursor, int size) {
+        Assert.isTrue(size > 0 && size <= MAX_PAGE_SIZE, "페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다: " + size);
+
+        List<MemberSummary> members = memberRepository.search(cursor == null ? 0L : cursor,
+                condition.status(), condition.registeredFrom(), condition.registeredTo(),
+                prefixPattern(condition.emailPrefix()), prefixPattern(condition.nicknamePrefix()),
+                Limit.of(size + 1));
+
+        if (members.size() <= size) return new MemberPage(members, null);
+
+        List<MemberSummary> page = members.subList(0, size);
+        return new MemberPage(page, page.getLast().id());
+    }
+
+    private static @Nullable String prefixPattern(@Nullable String prefix) {
+        if (prefix == null || prefix.isEmpty()) return null;
+
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
     }
 }
@@ -0,0 +1,55 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이메일, 프로필 주소의 해시로 고른 잠금을 트랜잭션이 끝날 때까지 잡는다.
+ * 같은 값으로 동시에 들어온 두 번째 요청은 첫 요청이 커밋된 뒤에 진행하므로, 잠근 뒤의 중복 확인이나 flush 의 유니크 제약조건으로
+ * 중복을 알아챈다.
+ * 비밀번호 해싱처럼 오래 걸리는 일은 잠그기 전에 끝내서 잠금을 짧게 잡는다.
+ * 노드 안에서만 유효하고, 기다리는 시간이 지나면 잠그지 않고 진행한다. 정합성은 유니크 제약조건이 보장한다.
+ */
+@Component
+class MemberRegistrationLocks {
+    private final MemberRegistrationProperties properties;
+    private final ReentrantLock[] stripes;
+
+    MemberRegistrationLocks(MemberRegistrationProperties properties) {
+        Assert.isTrue(properties.lockStripes() > 0, "잠금 개수는 1 이상이어야 합니다.");
+
+        this.properties = properties;
+        this.stripes = new ReentrantLock[properties.lockStripes()];
+        for (int i = 0; i < stripes.length; i++) stripes[i] = new ReentrantLock();
+    }
+
+    void lockUntilCompletion(String key) {
+        if (!properties.stripedLock() || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        ReentrantLock lock = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        if (!tryLock(lock)) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new UnlockOnCompletion(lock));
+    }
+
+    private boolean tryLock(ReentrantLock lock) {
+        try {
+            return lock.tryLock(properties.lockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record UnlockOnCompletion(ReentrantLock lock) implements TransactionSynchronization {
+        @Override
+        public void afterCompletion(int status) {
+            lock.unlock();
+        }
+    }
+}
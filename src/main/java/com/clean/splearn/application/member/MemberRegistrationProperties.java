@@ -0,0 +1,23 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 회원 등록, 정보 수정의 중복 처리 설정
+ *
+ * @param constraintOnly 중복 여부를 미리 조회하지 않고 유니크 제약조건 위반으로만 판단한다
+ * @param stripedLock    같은 이메일, 프로필 주소를 동시에 처리하지 않도록 노드 안에서 잠근다. 중복 해싱을 줄인다
+ * @param lockStripes    잠금 개수
+ * @param lockTimeout    잠금을 기다리는 최대 시간. 넘기면 잠그지 않고 진행한다(중복은 제약조건이 막는다)
+ */
+@ConfigurationProperties("splearn.member.registration")
+public record MemberRegistrationProperties(
+        @DefaultValue("false") boolean constraintOnly,
+        @DefaultValue("true") boolean stripedLock,
+        @DefaultValue("1024") int lockStripes,
+        @DefaultValue("3s") Duration lockTimeout
+) {
+}
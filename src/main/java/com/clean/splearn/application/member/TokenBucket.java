@@ -0,0 +1,40 @@
+package com.clean.splearn.application.member;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * capacity 개까지 몰아서 쓸 수 있고 refillInterval 마다 하나씩 채워지는 토큰 버킷.
+ * 남은 토큰 수 대신 다음 토큰이 모두 채워지는 시각 하나만 CAS 로 바꾸므로(GCRA) 잠금이 없다.
+ */
+class TokenBucket {
+    private final long refillIntervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, Duration refillInterval, long nowNanos) {
+        Assert.isTrue(capacity > 0, "capacity 는 0보다 커야 합니다");
+
+        this.refillIntervalNanos = refillInterval.toNanos();
+        this.capacityNanos = capacity * refillIntervalNanos;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 쓴다.
+     *
+     * @return 썼으면 0, 아니면 다음 토큰이 생길 때까지 남은 나노초
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + refillIntervalNanos;
+            long wait = next - nowNanos - capacityNanos;
+
+            if (wait > 0) return wait;
+            if (fullAt.compareAndSet(current, next)) return 0;
+        }
+    }
+}
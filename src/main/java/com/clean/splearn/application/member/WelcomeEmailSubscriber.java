@@ -0,0 +1,26 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.EmailSender;
+import com.clean.splearn.application.member.required.MemberEventSubscriber;
+import com.clean.splearn.domain.member.MemberEvent;
+import com.clean.splearn.domain.member.MemberEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 아웃박스 릴레이가 부른다. 발송은 메일 발송기에 맡기고, 실패로 끝나면 릴레이가 이벤트를 다시 시도한다.
+ */
+@Component
+@RequiredArgsConstructor
+class WelcomeEmailSubscriber implements MemberEventSubscriber {
+    private final EmailSender emailSender;
+
+    @Override
+    public CompletableFuture<Void> handle(MemberEvent event) {
+        if (event.getType() != MemberEventType.REGISTERED) return CompletableFuture.completedFuture(null);
+
+        return emailSender.sendAsync(event.getEmail(), "등록을 완료해주세요", "아래 링크를 클릭해서 등록을 완료해주세요");
+    }
+}
@@ -0,0 +1,21 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberSummary;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * MemberFinder 를 기다리지 않고 호출한다. 여러 조회를 동시에 시작하고 나중에 모아서 기다릴 때 쓴다.
+ * 같은 작업 안의 여러 id 는 하나씩 비동기로 부르기보다 findAllAsync 로 한 번에 조회하는 것이 싸다.
+ * 작업이 밀려 받을 수 없으면 MemberAsyncBusyException 으로 실패한 future 를 돌려준다.
+ */
+public interface AsyncMemberFinder {
+    CompletableFuture<Member> findAsync(Long memberId);
+
+    CompletableFuture<Map<Long, Member>> findAllAsync(Collection<Long> memberIds);
+
+    CompletableFuture<Map<Long, MemberSummary>> findSummariesAsync(Collection<Long> memberIds);
+}
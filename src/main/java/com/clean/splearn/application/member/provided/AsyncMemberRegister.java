@@ -0,0 +1,18 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.member.MemberRegisterResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * MemberRegister 를 기다리지 않고 호출한다. 검증 실패나 중복 같은 예외는 돌려받은 future 로 전달된다.
+ * 작업이 밀려 받을 수 없으면 MemberAsyncBusyException 으로 실패한다.
+ */
+public interface AsyncMemberRegister {
+    CompletableFuture<Member> registerAsync(MemberRegisterRequest registerRequest);
+
+    CompletableFuture<List<MemberRegisterResult>> registerAllAsync(List<MemberRegisterRequest> registerRequests);
+}
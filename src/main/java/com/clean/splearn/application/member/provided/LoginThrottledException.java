@@ -0,0 +1,19 @@
+package com.clean.splearn.application.member.provided;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도가 허용된 빈도를 넘었을 때 발생한다.
+ */
+public class LoginThrottledException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public LoginThrottledException(Duration retryAfter) {
+        super("로그인 시도가 너무 많습니다. " + Math.max(1, retryAfter.toSeconds()) + "초 후에 다시 시도해주세요");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
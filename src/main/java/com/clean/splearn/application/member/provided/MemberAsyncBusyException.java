@@ -0,0 +1,14 @@
+package com.clean.splearn.application.member.provided;
+
+/**
+ * 비동기 회원 작업이 밀려 더 받을 수 없을 때 발생한다. 잠시 뒤 다시 시도하면 된다.
+ */
+public class MemberAsyncBusyException extends RuntimeException {
+    public MemberAsyncBusyException(String message) {
+        super(message);
+    }
+
+    public MemberAsyncBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
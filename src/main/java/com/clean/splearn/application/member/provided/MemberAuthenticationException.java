@@ -0,0 +1,10 @@
+package com.clean.splearn.application.member.provided;
+
+/**
+ * 로그인에 실패했을 때 발생한다. 어떤 이메일이 가입되어 있는지 드러나지 않도록 실패 이유는 구분하지 않는다.
+ */
+public class MemberAuthenticationException extends RuntimeException {
+    public MemberAuthenticationException() {
+        super("이메일 또는 비밀번호가 올바르지 않습니다");
+    }
+}
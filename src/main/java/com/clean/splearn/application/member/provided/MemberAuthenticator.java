@@ -0,0 +1,19 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberLoginRequest;
+import jakarta.validation.Valid;
+
+/**
+ * 이메일과 비밀번호로 회원을 확인한다.
+ */
+public interface MemberAuthenticator {
+    /**
+     * 활성 회원이고 비밀번호가 맞으면 회원을 돌려준다.
+     * 비밀번호를 확인하기 전에 이메일과 클라이언트 주소별 시도 횟수를 먼저 제한한다.
+     *
+     * @throws LoginThrottledException      시도가 너무 잦을 때
+     * @throws MemberAuthenticationException 회원이 없거나, 활성 상태가 아니거나, 비밀번호가 틀렸을 때
+     */
+    Member authenticate(@Valid MemberLoginRequest loginRequest, String clientAddress);
+}
@@ -0,0 +1,10 @@
+package com.clean.splearn.application.member.provided;
+
+/**
+ * 한 번에 등록하려는 회원 수가 설정된 한도를 넘었을 때 발생한다.
+ */
+public class MemberBulkRegisterLimitExceededException extends RuntimeException {
+    public MemberBulkRegisterLimitExceededException(int maxBatchSize) {
+        super("한 번에 등록할 수 있는 회원 수를 넘었습니다: " + maxBatchSize);
+    }
+}
@@ -0,0 +1,20 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.domain.member.MemberExportRow;
+import com.clean.splearn.domain.member.MemberStatus;
+import jakarta.annotation.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * 회원 전체를 내보낸다.
+ */
+public interface MemberExporter {
+    /**
+     * 상태가 일치하는 회원(status 가 null 이면 전체)을 id 순으로 한 건씩 consumer 에 넘긴다.
+     * 모든 회원을 메모리에 올리지 않는다.
+     *
+     * @return 넘긴 회원 수
+     */
+    long export(@Nullable MemberStatus status, Consumer<MemberExportRow> consumer);
+}
@@ -1,10 +1,47 @@
 package com.clean.splearn.application.member.provided;
 
 import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberPage;
+import com.clean.splearn.domain.member.MemberSearchCondition;
+import com.clean.splearn.domain.member.MemberSummary;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * 회원을 조회 한다.
  */
 public interface MemberFinder {
     Member find(Long memberId);
+
+    /**
+     * 캐시를 거치지 않고 DB 에서 회원을 조회한다. 회원의 버전을 응답에 그대로 실어야 할 때 쓴다.
+     */
+    Member findLatest(Long memberId);
+
+    /**
+     * 엔티티를 읽지 않고 ID, 이메일, 닉네임, 상태만 조회한다.
+     */
+    MemberSummary findSummary(Long memberId);
+
+    /**
+     * 회원의 현재 버전만 조회한다. 회원 상세는 읽지 않는다.
+     */
+    long findVersion(Long memberId);
+
+    /**
+     * 여러 회원을 한 번의 IN 쿼리로 조회한다. 없는 id 는 결과에서 빠지고, 결과는 요청한 id 순서를 따른다.
+     */
+    Map<Long, Member> findAll(Collection<Long> memberIds);
+
+    /**
+     * 여러 회원의 요약을 한 번의 IN 쿼리로 조회한다. 없는 id 는 결과에서 빠진다.
+     */
+    Map<Long, MemberSummary> findSummaries(Collection<Long> memberIds);
+
+    /**
+     * 조건에 맞는 회원을 id 순으로 size 만큼 조회한다. 다음 페이지는 돌려받은 nextCursor 로 조회한다.
+     */
+    MemberPage search(MemberSearchCondition condition, @Nullable Long cursor, int size);
 }
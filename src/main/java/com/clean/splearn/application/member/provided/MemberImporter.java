@@ -0,0 +1,18 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.domain.member.MemberImportLine;
+import com.clean.splearn.domain.member.MemberImportReport;
+
+import java.util.Iterator;
+
+/**
+ * 파일 등에서 읽은 회원을 청크 단위로 나눠 등록한다
+ */
+public interface MemberImporter {
+    /**
+     * 행을 끝까지 읽으며 청크마다 커밋한다. 같은 jobId 로 다시 호출하면 마지막으로 커밋된 행 다음부터 이어서 처리한다.
+     *
+     * @param preHashed true 면 password 를 이미 해시된 값으로 보고 그대로 저장한다
+     */
+    MemberImportReport importMembers(String jobId, boolean preHashed, Iterator<MemberImportLine> lines);
+}
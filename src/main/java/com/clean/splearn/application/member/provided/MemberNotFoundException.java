@@ -0,0 +1,20 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.domain.member.Profile;
+
+/**
+ * 조회하려는 회원이 없을 때 발생한다.
+ */
+public class MemberNotFoundException extends IllegalArgumentException {
+    public MemberNotFoundException(Long memberId) {
+        super("회원을 찾을 수 없습니다. id: " + memberId);
+    }
+
+    public MemberNotFoundException(Profile profile) {
+        this(profile.url());
+    }
+
+    public MemberNotFoundException(String profileUrl) {
+        super("회원을 찾을 수 없습니다. profile: " + profileUrl);
+    }
+}
@@ -0,0 +1,14 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.domain.member.MemberProfileSummary;
+import com.clean.splearn.domain.member.Profile;
+
+/**
+ * 공개 프로필을 조회한다. 회원 엔티티가 아니라 읽기 모델에서 읽는다.
+ */
+public interface MemberProfileFinder {
+    /**
+     * @throws MemberNotFoundException 프로필 주소를 가진 활성 회원이 없을 때
+     */
+    MemberProfileSummary find(Profile profile);
+}
@@ -3,17 +3,33 @@ package com.clean.splearn.application.member.provided;
 import com.clean.splearn.domain.member.Member;
 import com.clean.splearn.domain.member.MemberInfoUpdateRequest;
 import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.member.MemberRegisterResult;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 /**
  * 회원의 등록과 관련된 기능을 제공한다.
  */
 public interface MemberRegister {
     Member register(@Valid MemberRegisterRequest registerRequest);
 
+    /**
+     * 여러 회원을 한 번에 등록한다. 잘못되었거나 중복된 요청은 전체를 실패시키지 않고 해당 결과에 사유를 남긴다.
+     * 결과는 요청과 같은 순서로 돌려준다.
+     */
+    List<MemberRegisterResult> registerAll(List<MemberRegisterRequest> registerRequests);
+
     Member activate(Long memberId);
 
     Member deactivate(Long memberId);
 
     Member updateInfo(Long memberId, @Valid MemberInfoUpdateRequest memberInfoUpdateRequest);
+
+    /**
+     * 회원의 버전이 expectedVersion 일 때만 정보를 수정한다.
+     *
+     * @throws MemberVersionConflictException 그 사이에 회원이 바뀌었을 때
+     */
+    Member updateInfo(Long memberId, long expectedVersion, @Valid MemberInfoUpdateRequest memberInfoUpdateRequest);
 }
@@ -0,0 +1,10 @@
+package com.clean.splearn.application.member.provided;
+
+/**
+ * 클라이언트가 알고 있는 회원 버전이 현재 버전과 다를 때 발생한다. 그 사이에 다른 요청이 회원을 바꿨다.
+ */
+public class MemberVersionConflictException extends RuntimeException {
+    public MemberVersionConflictException(Long memberId, long expectedVersion) {
+        super("회원이 이미 변경되었습니다. id: " + memberId + ", version: " + expectedVersion);
+    }
+}
@@ -2,9 +2,23 @@ package com.clean.splearn.application.member.required;
 
 import com.clean.splearn.domain.shared.Email;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 이메일을 발송한다
  */
 public interface EmailSender {
     void send(Email email, String subject, String body);
+
+    /**
+     * 발송을 맡기고 결과를 돌려준다. 발송에 실패하면 돌려준 결과가 그 예외로 끝나므로 호출한 쪽에서 다시 시도할 수 있다.
+     */
+    default CompletableFuture<Void> sendAsync(Email email, String subject, String body) {
+        try {
+            send(email, subject, body);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package com.clean.splearn.application.member.required;
+
+import com.clean.splearn.domain.member.MemberSummary;
+
+import java.util.Optional;
+
+/**
+ * 여러 노드가 함께 쓰는 회원 요약 캐시.
+ * DB 에서 읽어 담는 사이에 회원이 변경되어 지워지면 예전 값이 다시 담길 수 있다.
+ * 그래서 evict 는 잠시 동안 같은 회원을 담지 못하게 하는 표시(tombstone)를 남기고, putIfAbsent 는 비어 있을 때만 담는다.
+ */
+public interface MemberCache {
+    Optional<MemberSummary> get(Long memberId);
+
+    /**
+     * 비어 있을 때만 담는다. 이미 값이 있거나 evict 가 남긴 표시가 있으면 담지 않는다.
+     */
+    void putIfAbsent(MemberSummary member);
+
+    void evict(Long memberId);
+}
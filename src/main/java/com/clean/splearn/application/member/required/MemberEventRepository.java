@@ -0,0 +1,41 @@
+package com.clean.splearn.application.member.required;
+
+import com.clean.splearn.domain.member.MemberEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 이벤트를 아웃박스에 저장하거나 조회한다
+ */
+public interface MemberEventRepository extends Repository<MemberEvent, Long> {
+    MemberEvent save(MemberEvent event);
+
+    /**
+     * 발행되지 않은 이벤트를 오래된 순서로 잠그며 가져온다.
+     * 다른 노드가 잠근 이벤트는 기다리지 않고 건너뛴다(SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<MemberEvent> findByPublishedAtIsNullOrderById(Limit limit);
+
+    /**
+     * 발행되지 않았고 다시 시도할 시각이 된 이벤트를 오래된 순서로 잠그며 가져온다.
+     * 실패해서 미뤄진 이벤트가 뒤의 이벤트를 막지 않는다. 다른 노드가 잠근 이벤트는 건너뛴다(SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select e from MemberEvent e
+            where e.publishedAt is null and (e.nextAttemptAt is null or e.nextAttemptAt <= :now)
+            order by e.id
+            """)
+    List<MemberEvent> findDeliverable(LocalDateTime now, Limit limit);
+}
@@ -0,0 +1,13 @@
+package com.clean.splearn.application.member.required;
+
+import com.clean.splearn.domain.member.MemberEvent;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 아웃박스에서 꺼낸 회원 이벤트를 처리한다.
+ * 처리를 맡기고 바로 돌아오며, 돌려준 결과가 실패로 끝나면 릴레이가 이벤트를 다시 시도한다.
+ */
+public interface MemberEventSubscriber {
+    CompletableFuture<Void> handle(MemberEvent event);
+}
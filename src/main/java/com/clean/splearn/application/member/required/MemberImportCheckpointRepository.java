@@ -0,0 +1,15 @@
+package com.clean.splearn.application.member.required;
+
+import com.clean.splearn.domain.member.MemberImportCheckpoint;
+import org.springframework.data.repository.Repository;
+
+import java.util.Optional;
+
+/**
+ * 회원 가져오기 작업의 진행 지점을 저장하거나 조회한다
+ */
+public interface MemberImportCheckpointRepository extends Repository<MemberImportCheckpoint, Long> {
+    MemberImportCheckpoint save(MemberImportCheckpoint checkpoint);
+
+    Optional<MemberImportCheckpoint> findByJobId(String jobId);
+}
@@ -0,0 +1,13 @@
+package com.clean.splearn.application.member.required;
+
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.shared.Email;
+
+import java.util.Optional;
+
+/**
+ * 이메일(natural id)로 회원을 조회한다. 이메일 -> ID 매핑과 회원 엔티티 모두 2차 캐시를 거친다.
+ */
+public interface MemberNaturalIdRepository {
+    Optional<Member> findByNaturalId(Email email);
+}
@@ -0,0 +1,47 @@
+package com.clean.splearn.application.member.required;
+
+import com.clean.splearn.domain.member.MemberProfileSummary;
+import com.clean.splearn.domain.member.MemberProfileView;
+import com.clean.splearn.domain.member.MemberStatus;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 공개 프로필 읽기 모델을 저장하거나 조회한다
+ */
+public interface MemberProfileViewRepository extends Repository<MemberProfileView, Long> {
+    MemberProfileView save(MemberProfileView view);
+
+    /**
+     * 프로필 주소의 유니크 인덱스로 한 행만 읽는다.
+     */
+    @Query("""
+            select new com.clean.splearn.domain.member.MemberProfileSummary(v.memberId, v.nickname, v.profileAddress, v.introduction)
+            from MemberProfileView v where v.profileAddress = :profileAddress
+            """)
+    Optional<MemberProfileSummary> findSummaryByProfileAddress(String profileAddress);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from MemberProfileView v where v.memberId = :memberId")
+    int deleteByMemberId(Long memberId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from MemberProfileView v")
+    int deleteAllViews();
+
+    /**
+     * status 이고 프로필 주소가 있는 회원으로 읽기 모델을 한 번의 INSERT ... SELECT 로 채운다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            insert into MemberProfileView (memberId, profileAddress, nickname, introduction, updatedAt)
+            select m.id, d.profile.address, m.nickname, d.introduction, :updatedAt
+            from Member m join m.detail d
+            where m.status = :status and d.profile.address is not null
+            """)
+    int insertFromMembers(MemberStatus status, LocalDateTime updatedAt);
+}
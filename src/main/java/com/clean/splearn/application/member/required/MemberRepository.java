@@ -1,23 +1,144 @@
 package com.clean.splearn.application.member.required;
 
 import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberExportRow;
+import com.clean.splearn.domain.member.MemberStatus;
+import com.clean.splearn.domain.member.MemberSummary;
 import com.clean.splearn.domain.member.Profile;
 import com.clean.splearn.domain.shared.Email;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 회원 정보를 저장하거나 조회한다
  */
-public interface MemberRepository extends Repository<Member, Long> {
+public interface MemberRepository extends Repository<Member, Long>, MemberNaturalIdRepository {
     Member save(Member member);
 
+    void flush();
+
     Optional<Member> findByEmail(Email email);
 
     Optional<Member> findById(Long memberId);
 
-    @Query("select m from Member m where m.detail.profile = :profile")
-    Optional<Member> findByProfile(Profile profile);
+    @Query("select m from Member m join fetch m.detail where m.id = :memberId")
+    Optional<Member> findWithDetailById(Long memberId);
+
+    /**
+     * 커밋할 때 버전을 올린다. 회원 상세만 바뀌어도 회원의 버전이 바뀌고, 그 사이 다른 커밋이 있었다면 실패한다.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select m from Member m join fetch m.detail where m.id = :memberId")
+    Optional<Member> findForUpdateById(Long memberId);
+
+    @Query("select m.version from Member m where m.id = :memberId")
+    Optional<Long> findVersionById(Long memberId);
+
+    @Query("""
+            select new com.clean.splearn.domain.member.MemberSummary(m.id, m.email.address, m.nickname, m.status)
+            from Member m where m.id = :memberId
+            """)
+    Optional<MemberSummary> findSummaryById(Long memberId);
+
+    /**
+     * id 가 cursor 보다 큰 회원을 id 순으로 찾는다. OFFSET 없이 인덱스에서 바로 이어서 읽으므로 뒤 페이지도 비용이 같다.
+     * 패턴의 !, %, _ 는 호출하는 쪽에서 ! 로 이스케이프해야 한다.
+     */
+    @Query("""
+            select new com.clean.splearn.domain.member.MemberSummary(m.id, m.email.address, m.nickname, m.status)
+            from Member m join m.detail d
+            where m.id > :cursor
+              and (:status is null or m.status = :status)
+              and (:registeredFrom is null or d.registeredAt >= :registeredFrom)
+              and (:registeredTo is null or d.registeredAt < :registeredTo)
+              and (:emailPattern is null or m.email.address like :emailPattern escape '!')
+              and (:nicknamePattern is null or m.nickname like :nicknamePattern escape '!')
+            order by m.id
+            """)
+    List<MemberSummary> search(Long cursor, @Nullable MemberStatus status,
+                               @Nullable LocalDateTime registeredFrom, @Nullable LocalDateTime registeredTo,
+                               @Nullable String emailPattern, @Nullable String nicknamePattern, Limit limit);
+
+    @Query("select m from Member m join fetch m.detail where m.id in :memberIds")
+    List<Member> findAllWithDetailByIdIn(Collection<Long> memberIds);
+
+    @Query("""
+            select new com.clean.splearn.domain.member.MemberSummary(m.id, m.email.address, m.nickname, m.status)
+            from Member m where m.id in :memberIds
+            """)
+    List<MemberSummary> findSummariesByIdIn(Collection<Long> memberIds);
+
+    @Query("select m.email.address from Member m where m.email.address in :addresses")
+    List<String> findExistingEmailAddresses(Collection<String> addresses);
+
+    boolean existsByDetailProfile(Profile profile);
+
+    @Query("select m.email.address from Member m")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<String> streamEmailAddresses();
+
+    @Query("select d.profile.address from MemberDetail d where d.profile.address is not null")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<String> streamProfileAddresses();
+
+    /**
+     * 회원과 상세를 id 순으로 한 행씩 읽는다. 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않는다.
+     * MySQL 은 useCursorFetch=true 여야 fetch size 단위로 읽는다(application.yml 의 data-source-properties).
+     */
+    @Query("""
+            select new com.clean.splearn.domain.member.MemberExportRow(
+                m.id, m.email.address, m.nickname, m.status,
+                d.profile.address, d.introduction, d.registeredAt, d.activatedAt, d.deactivatedAt)
+            from Member m join m.detail d
+            where :status is null or m.status = :status
+            order by m.id
+            """)
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<MemberExportRow> streamExportRows(@Nullable MemberStatus status);
+
+    /**
+     * status 이고 registeredBefore 전에 가입한 회원을 id 순으로 잠그며 가져온다.
+     * 다른 노드가 잠근 회원은 기다리지 않고 건너뛴다(SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select m from Member m join m.detail d
+            where m.status = :status and d.registeredAt < :registeredBefore
+            order by m.id
+            """)
+    List<Member> findForTransition(MemberStatus status, LocalDateTime registeredBefore, Limit limit);
+
+    /**
+     * 아직 from 상태인 회원만 to 상태로 바꾼다. 영속성 컨텍스트와 2차 캐시를 거치지 않으므로 버전도 직접 올린다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Member m set m.status = :to, m.version = m.version + 1
+            where m.id in :memberIds and m.status = :from
+            """)
+    int updateStatus(Collection<Long> memberIds, MemberStatus from, MemberStatus to);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update MemberDetail d set d.deactivatedAt = :deactivatedAt
+            where d.deactivatedAt is null and d.id in (select m.detail.id from Member m where m.id in :memberIds)
+            """)
+    int updateDeactivatedAt(Collection<Long> memberIds, LocalDateTime deactivatedAt);
 }
@@ -1,8 +1,6 @@
 package com.clean.splearn.domain;
 
 import jakarta.annotation.Nullable;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
@@ -15,7 +13,7 @@ import java.util.Objects;
 @ToString
 public abstract class AbstractEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SplearnId
     @Getter(onMethod_ = {@Nullable})
     private Long id;
 
@@ -0,0 +1,16 @@
+package com.clean.splearn.domain;
+
+/**
+ * 엔티티 ID 생성 방식
+ */
+public enum IdStrategy {
+    /**
+     * DB 시퀀스(MySQL 은 시퀀스 테이블)에서 50 개씩 미리 받아 쓴다
+     */
+    SEQUENCE,
+    /**
+     * 시간 + 노드 + 순번으로 만든 64비트 ID. DB 를 거치지 않는다.
+     * 값이 2^53 을 넘으므로 JavaScript 의 number(Number.MAX_SAFE_INTEGER) 로는 정확히 표현되지 않는다
+     */
+    TIME_ORDERED
+}
@@ -0,0 +1,19 @@
+package com.clean.splearn.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * ID 를 SplearnIdGenerator 로 만든다. 시퀀스 이름과 할당 크기는 생성기가 정한다.
+ */
+@IdGeneratorType(SplearnIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface SplearnId {
+}
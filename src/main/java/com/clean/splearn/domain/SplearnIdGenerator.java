@@ -0,0 +1,57 @@
+package com.clean.splearn.domain;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 모든 엔티티가 쓰는 ID 생성기. AbstractEntity 의 ID 에 {@link SplearnId} 로 붙는다.
+ * 기본은 모든 엔티티가 함께 쓰는 splearn_id_seq 시퀀스에서 50 개씩 받아 쓰는 pooled 최적화이고,
+ * splearn.id.strategy=TIME_ORDERED 이면 DB 를 거치지 않고 TimeOrderedIdGenerator 로 만든다.
+ * 시퀀스(MySQL 은 시퀀스 테이블)는 두 방식 모두에서 만들어 두므로 언제든 되돌릴 수 있다.
+ */
+public class SplearnIdGenerator extends SequenceStyleGenerator {
+    public static final String SEQUENCE_NAME = "splearn_id_seq";
+    public static final int ALLOCATION_SIZE = 50;
+    public static final int MAX_NODE = TimeOrderedIdGenerator.MAX_NODE;
+    public static final String STRATEGY_SETTING = "splearn.id.strategy";
+    public static final String NODE_SETTING = "splearn.id.node";
+
+    private final AtomicReference<Optional<TimeOrderedIdGenerator>> timeOrdered = new AtomicReference<>();
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(SEQUENCE_PARAM, SEQUENCE_NAME);
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(ALLOCATION_SIZE));
+
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        Optional<TimeOrderedIdGenerator> generator = timeOrdered.get();
+        if (generator == null) {
+            timeOrdered.compareAndSet(null, create(session.getFactory().getProperties()));
+            generator = timeOrdered.get();
+        }
+
+        return generator.isPresent() ? generator.get().next() : super.generate(session, object);
+    }
+
+    private static Optional<TimeOrderedIdGenerator> create(Map<String, Object> settings) {
+        IdStrategy strategy = IdStrategy.valueOf(String.valueOf(settings.getOrDefault(STRATEGY_SETTING, IdStrategy.SEQUENCE)));
+        if (strategy != IdStrategy.TIME_ORDERED) return Optional.empty();
+
+        Object node = settings.get(NODE_SETTING);
+        if (node == null) throw new IllegalStateException(NODE_SETTING + " 를 지정하지 않아 TIME_ORDERED ID 를 만들 수 없습니다");
+
+        return Optional.of(new TimeOrderedIdGenerator(Integer.parseInt(String.valueOf(node))));
+    }
+}
@@ -0,0 +1,53 @@
+package com.clean.splearn.domain;
+
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 41비트 시간(ms) + 10비트 노드 + 12비트 순번으로 이루어진 64비트 ID 를 만든다.
+ * 같은 인스턴스 안에서는 항상 증가한다. 1ms 안에 순번을 다 쓰거나 시계가 뒤로 가면 다음 ms 를 미리 당겨 쓴다.
+ */
+class TimeOrderedIdGenerator {
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    // (EPOCH 기준 ms << SEQUENCE_BITS) | 순번
+    private final AtomicLong last = new AtomicLong();
+
+    TimeOrderedIdGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(int node, LongSupplier clock) {
+        Assert.isTrue(node >= 0 && node <= MAX_NODE, "노드 번호는 0 이상 " + MAX_NODE + " 이하여야 합니다: " + node);
+
+        this.node = node;
+        this.clock = clock;
+    }
+
+    long next() {
+        while (true) {
+            long previous = last.get();
+            long now = (clock.getAsLong() - EPOCH) << SEQUENCE_BITS;
+            long next = now > previous ? now : previous + 1;
+
+            if (last.compareAndSet(previous, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    long node() {
+        return node;
+    }
+}
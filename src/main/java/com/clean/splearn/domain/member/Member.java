@@ -7,6 +7,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.NaturalId;
 import org.hibernate.annotations.NaturalIdCache;
 
@@ -17,7 +19,8 @@ import static org.springframework.util.Assert.state;
 @Getter
 @ToString(callSuper = true, exclude = "detail")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@NaturalIdCache
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@NaturalIdCache(region = "member-email")
 public class Member extends AbstractEntity {
     @NaturalId
     private Email email;
@@ -30,14 +33,43 @@ public class Member extends AbstractEntity {
 
     private MemberDetail detail;
 
+    /**
+     * 변경될 때마다 오르는 낙관적 잠금 버전. HTTP ETag 로도 쓴다.
+     */
+    private Long version;
+
     public static Member register(MemberRegisterRequest registerRequest, PasswordEncoder passwordEncoder) {
-        Member member = new Member();
+        return create(registerRequest.email(), registerRequest.nickname(), passwordEncoder.encode(registerRequest.password()));
+    }
 
-        Email email = new Email(registerRequest.email());
+    /**
+     * 이 시스템의 passwordEncoder 로 미리 해시해 둔 비밀번호로 등록한다.
+     * 여러 비밀번호를 한꺼번에 해시해 두고, 저장을 다시 시도할 때마다 엔티티만 새로 만들 때 쓴다.
+     */
+    public static Member registerWithEncodedPassword(MemberRegisterRequest registerRequest, String passwordHash) {
+        state(passwordHash != null && !passwordHash.isBlank(), "비밀번호 해시가 비어 있습니다");
+
+        return create(registerRequest.email(), registerRequest.nickname(), passwordHash);
+    }
 
-        member.email = requireNonNull(email);
-        member.nickname = requireNonNull(registerRequest.nickname());
-        member.passwordHash = passwordEncoder.encode(registerRequest.password());
+    /**
+     * 다른 시스템에서 이미 해시된 비밀번호를 그대로 가져와 등록한다. passwordEncoder 가 검증할 수 있는 형식이어야 한다.
+     * 현재 설정과 다른 해시는 로그인에 성공할 때 다시 해시된다.
+     */
+    public static Member registerWithPasswordHash(String email, String nickname, String passwordHash,
+                                                  PasswordEncoder passwordEncoder) {
+        state(passwordHash != null && !passwordHash.isBlank(), "비밀번호 해시가 비어 있습니다");
+        state(passwordEncoder.isRecognizedHash(passwordHash), "알 수 없는 비밀번호 해시 형식입니다");
+
+        return create(email, nickname, passwordHash);
+    }
+
+    private static Member create(String email, String nickname, String passwordHash) {
+        Member member = new Member();
+
+        member.email = new Email(email);
+        member.nickname = requireNonNull(nickname);
+        member.passwordHash = passwordHash;
 
         member.status = MemberStatus.PENDING;
 
@@ -60,10 +92,24 @@ public class Member extends AbstractEntity {
         this.detail.deactivate();
     }
 
+    /**
+     * 기한 안에 활성화하지 않은 회원을 만료시킨다. 만료 시각은 비활성화 시각에 기록한다.
+     */
+    public void expire() {
+        state(this.status == MemberStatus.PENDING, "PENDING 상태가 아닙니다");
+
+        this.status = MemberStatus.EXPIRED;
+        this.detail.deactivate();
+    }
+
     public boolean verifyPassword(String password, PasswordEncoder passwordEncoder) {
         return passwordEncoder.matches(password, this.passwordHash);
     }
 
+    public boolean needsPasswordUpgrade(PasswordEncoder passwordEncoder) {
+        return passwordEncoder.upgradeEncoding(this.passwordHash);
+    }
+
     public void updateInfo(MemberInfoUpdateRequest updateRequest) {
         state(this.status == MemberStatus.ACTIVE, "등록 완료 상태가 아니면 정보를 수정할 수 없습니다");
 
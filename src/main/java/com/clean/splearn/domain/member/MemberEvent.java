@@ -0,0 +1,81 @@
+package com.clean.splearn.domain.member;
+
+import com.clean.splearn.domain.AbstractEntity;
+import com.clean.splearn.domain.shared.Email;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Entity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static java.util.Objects.requireNonNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * 회원에게 일어난 일을 기록한다. 회원 변경과 같은 트랜잭션에서 저장되고, 이후에 발행된다.
+ */
+@Entity
+@Getter
+@ToString(callSuper = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberEvent extends AbstractEntity {
+    private Long memberId;
+
+    private MemberEventType type;
+
+    private Email email;
+
+    private LocalDateTime occurredAt;
+
+    @Getter(onMethod_ = {@Nullable})
+    private LocalDateTime publishedAt;
+
+    private int attempts;
+
+    @Getter(onMethod_ = {@Nullable})
+    private LocalDateTime nextAttemptAt;
+
+    public static MemberEvent of(Member member, MemberEventType type) {
+        MemberEvent event = new MemberEvent();
+
+        event.memberId = requireNonNull(member.getId());
+        event.type = requireNonNull(type);
+        event.email = member.getEmail();
+        event.occurredAt = LocalDateTime.now();
+
+        return event;
+    }
+
+    public void markPublished() {
+        state(this.publishedAt == null, "이미 발행된 이벤트입니다");
+
+        this.publishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 릴레이가 전달하는 동안 lease 가 지날 때까지 다른 릴레이가 건너뛰게 한다. 시도 횟수는 세지 않는다.
+     */
+    public void claim(Duration lease) {
+        state(this.publishedAt == null, "이미 발행된 이벤트입니다");
+
+        this.nextAttemptAt = LocalDateTime.now().plus(lease);
+    }
+
+    /**
+     * 전달에 실패한 횟수를 세고, retryAfter 가 지날 때까지 릴레이가 건너뛰게 한다.
+     */
+    public void recordFailure(Duration retryAfter) {
+        state(this.publishedAt == null, "이미 발행된 이벤트입니다");
+
+        this.attempts++;
+        this.nextAttemptAt = LocalDateTime.now().plus(retryAfter);
+    }
+
+    public boolean isPublished() {
+        return this.publishedAt != null;
+    }
+}
@@ -0,0 +1,5 @@
+package com.clean.splearn.domain.member;
+
+public enum MemberEventType {
+    REGISTERED, ACTIVATED, DEACTIVATED, EXPIRED, INFO_UPDATED
+}
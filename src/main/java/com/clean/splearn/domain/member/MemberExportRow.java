@@ -0,0 +1,21 @@
+package com.clean.splearn.domain.member;
+
+import jakarta.annotation.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 회원 한 건. 회원과 회원 상세를 엔티티로 읽지 않고 한 행으로 조회한다.
+ */
+public record MemberExportRow(
+        Long id,
+        String email,
+        String nickname,
+        MemberStatus status,
+        @Nullable String profileAddress,
+        @Nullable String introduction,
+        LocalDateTime registeredAt,
+        @Nullable LocalDateTime activatedAt,
+        @Nullable LocalDateTime deactivatedAt
+) {
+}
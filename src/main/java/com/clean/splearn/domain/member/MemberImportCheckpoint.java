@@ -0,0 +1,51 @@
+package com.clean.splearn.domain.member;
+
+import com.clean.splearn.domain.AbstractEntity;
+import jakarta.persistence.Entity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+import static java.util.Objects.requireNonNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * 회원 가져오기 작업이 어디까지 커밋되었는지 기록한다. 청크와 같은 트랜잭션에서 저장되므로,
+ * 같은 작업을 다시 실행하면 lastLine 다음 행부터 이어서 처리하면 된다.
+ */
+@Entity
+@Getter
+@ToString(callSuper = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberImportCheckpoint extends AbstractEntity {
+    private String jobId;
+
+    private long lastLine;
+
+    private long imported;
+
+    private long failed;
+
+    private LocalDateTime updatedAt;
+
+    public static MemberImportCheckpoint start(String jobId) {
+        MemberImportCheckpoint checkpoint = new MemberImportCheckpoint();
+
+        checkpoint.jobId = requireNonNull(jobId);
+        checkpoint.updatedAt = LocalDateTime.now();
+
+        return checkpoint;
+    }
+
+    public void advance(long lastLine, long imported, long failed) {
+        state(lastLine >= this.lastLine, "체크포인트는 뒤로 돌아갈 수 없습니다");
+
+        this.lastLine = lastLine;
+        this.imported += imported;
+        this.failed += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package com.clean.splearn.domain.member;
+
+import jakarta.annotation.Nullable;
+
+public record MemberImportError(long line, @Nullable String email, String reason) {
+}
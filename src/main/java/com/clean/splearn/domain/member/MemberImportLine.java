@@ -0,0 +1,18 @@
+package com.clean.splearn.domain.member;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * 가져오기 파일의 한 행. 읽을 수 없는 행은 request 대신 error 를 가진다.
+ *
+ * @param number 파일 안에서의 행 번호(1부터). 재시작 지점을 정하는 데 쓰인다
+ */
+public record MemberImportLine(long number, @Nullable MemberRegisterRequest request, @Nullable String error) {
+    public static MemberImportLine of(long number, MemberRegisterRequest request) {
+        return new MemberImportLine(number, request, null);
+    }
+
+    public static MemberImportLine unreadable(long number, String error) {
+        return new MemberImportLine(number, null, error);
+    }
+}
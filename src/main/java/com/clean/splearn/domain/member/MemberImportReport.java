@@ -0,0 +1,33 @@
+package com.clean.splearn.domain.member;
+
+import java.util.List;
+
+/**
+ * 가져오기 한 번의 결과. 건수는 이번 실행에서 처리한 행만 센다.
+ *
+ * @param resumedAfter 이전 실행에서 이미 커밋되어 건너뛴 마지막 행 번호
+ * @param errors       실패한 행. 설정된 개수까지만 담고, failed 는 전체 실패 건수다
+ */
+public record MemberImportReport(
+        String jobId,
+        long resumedAfter,
+        long processed,
+        long imported,
+        long failed,
+        long elapsedMillis,
+        double rowsPerSecond,
+        List<MemberImportError> errors
+) {
+    public MemberImportReport {
+        errors = List.copyOf(errors);
+    }
+
+    public static MemberImportReport of(String jobId, long resumedAfter, long imported, long failed,
+                                        long elapsedNanos, List<MemberImportError> errors) {
+        long processed = imported + failed;
+        double rowsPerSecond = elapsedNanos > 0 ? processed * 1_000_000_000d / elapsedNanos : 0;
+
+        return new MemberImportReport(jobId, resumedAfter, processed, imported, failed,
+                elapsedNanos / 1_000_000, rowsPerSecond, errors);
+    }
+}
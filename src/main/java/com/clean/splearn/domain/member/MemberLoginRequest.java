@@ -0,0 +1,10 @@
+package com.clean.splearn.domain.member;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record MemberLoginRequest(
+        @NotNull @Email String email,
+        @NotNull @Size(min = 1, max = 100) String password) {
+}
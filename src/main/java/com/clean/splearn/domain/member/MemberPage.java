@@ -0,0 +1,20 @@
+package com.clean.splearn.domain.member;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * id 순으로 정렬한 회원 목록의 한 페이지. 다음 페이지는 nextCursor 보다 큰 id 부터 시작한다.
+ *
+ * @param nextCursor 다음 페이지가 없으면 null
+ */
+public record MemberPage(List<MemberSummary> members, @Nullable Long nextCursor) {
+    public MemberPage {
+        members = List.copyOf(members);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
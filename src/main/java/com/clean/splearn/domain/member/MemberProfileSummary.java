@@ -0,0 +1,7 @@
+package com.clean.splearn.domain.member;
+
+/**
+ * 회원과 회원 상세를 엔티티로 읽지 않고 조회하는 프로필 요약
+ */
+public record MemberProfileSummary(Long memberId, String nickname, String profileAddress, String introduction) {
+}
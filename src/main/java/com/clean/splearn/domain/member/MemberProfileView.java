@@ -0,0 +1,47 @@
+package com.clean.splearn.domain.member;
+
+import jakarta.persistence.Entity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+import static java.util.Objects.requireNonNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * 공개 프로필 화면을 위한 읽기 모델. 프로필 주소가 있는 활성 회원 한 명당 한 행이며, 회원과 상세를 조인하지 않고 바로 읽는다.
+ * 회원 이벤트를 따라 갱신되므로 직접 바꾸지 않는다.
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberProfileView {
+    private Long memberId;
+
+    private String profileAddress;
+
+    private String nickname;
+
+    private String introduction;
+
+    private LocalDateTime updatedAt;
+
+    public static MemberProfileView of(Member member) {
+        Profile profile = member.getDetail().getProfile();
+        state(profile != null, "프로필 주소가 없는 회원입니다");
+
+        MemberProfileView view = new MemberProfileView();
+
+        view.memberId = requireNonNull(member.getId());
+        view.profileAddress = profile.address();
+        view.nickname = member.getNickname();
+        view.introduction = member.getDetail().getIntroduction();
+        view.updatedAt = LocalDateTime.now();
+
+        return view;
+    }
+}
@@ -0,0 +1,20 @@
+package com.clean.splearn.domain.member;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * 일괄 등록에서 요청 하나의 처리 결과. 성공하면 회원을, 실패하면 사유를 담는다.
+ */
+public record MemberRegisterResult(String email, @Nullable Member member, @Nullable String failure) {
+    public static MemberRegisterResult success(Member member) {
+        return new MemberRegisterResult(member.getEmail().address(), member, null);
+    }
+
+    public static MemberRegisterResult failure(String email, String failure) {
+        return new MemberRegisterResult(email, null, failure);
+    }
+
+    public boolean isSuccess() {
+        return member != null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.clean.splearn.domain.member;
+
+import jakarta.annotation.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 목록 검색 조건. 값이 없는 조건은 적용하지 않는다.
+ *
+ * @param registeredFrom 등록일시 시작(포함)
+ * @param registeredTo   등록일시 끝(제외)
+ * @param emailPrefix    이메일 주소 접두사
+ * @param nicknamePrefix 닉네임 접두사
+ */
+public record MemberSearchCondition(
+        @Nullable MemberStatus status,
+        @Nullable LocalDateTime registeredFrom,
+        @Nullable LocalDateTime registeredTo,
+        @Nullable String emailPrefix,
+        @Nullable String nicknamePrefix
+) {
+    public static MemberSearchCondition all() {
+        return new MemberSearchCondition(null, null, null, null, null);
+    }
+}
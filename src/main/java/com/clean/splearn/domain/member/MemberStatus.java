@@ -1,5 +1,5 @@
 package com.clean.splearn.domain.member;
 
 public enum MemberStatus {
-    PENDING, ACTIVE, DEACTIVATED
+    PENDING, ACTIVE, DEACTIVATED, EXPIRED
 }
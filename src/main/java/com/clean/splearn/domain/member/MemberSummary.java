@@ -0,0 +1,7 @@
+package com.clean.splearn.domain.member;
+
+/**
+ * 회원 엔티티를 읽지 않고 조회하는 회원 요약
+ */
+public record MemberSummary(Long id, String email, String nickname, MemberStatus status) {
+}
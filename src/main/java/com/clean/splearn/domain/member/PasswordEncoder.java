@@ -4,4 +4,19 @@ public interface PasswordEncoder {
     String encode(String password);
 
     boolean matches(String password, String passwordHash);
+
+    /**
+     * 해시가 현재 알고리즘과 파라미터로 만들어지지 않아 다시 해시해야 하는지 확인한다.
+     */
+    default boolean upgradeEncoding(String passwordHash) {
+        return false;
+    }
+
+    /**
+     * 다른 시스템에서 가져온 값이 이 인코더로 검증할 수 있는 해시 형식인지 확인한다.
+     * 형식은 인코더마다 다르므로 기본은 아무 해시도 받지 않는다.
+     */
+    default boolean isRecognizedHash(String passwordHash) {
+        return false;
+    }
 }
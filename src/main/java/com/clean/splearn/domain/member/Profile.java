@@ -1,17 +1,28 @@
 package com.clean.splearn.domain.member;
 
-import java.util.regex.Pattern;
-
+/**
+ * 프로필 주소. 영문 소문자와 숫자로 된 최대 15자리 문자열이다.
+ */
 public record Profile(String address) {
-    private static final Pattern PROFILE_ADDRESS_PATTERN =
-            Pattern.compile("[a-z0-9]+");
+    private static final int MAX_LENGTH = 15;
 
     public Profile {
-        if (!PROFILE_ADDRESS_PATTERN.matcher(address).matches()) {
+        if (!isValid(address)) {
             throw new IllegalArgumentException("프로필 주소 형식이 바르지 않습니다: " + address);
         }
 
-        if (address.length() > 15) throw new IllegalArgumentException("프로필 주소는 최대 15자리를 넘을 수 없습니다.");
+        if (address.length() > MAX_LENGTH) throw new IllegalArgumentException("프로필 주소는 최대 15자리를 넘을 수 없습니다.");
+    }
+
+    static boolean isValid(String address) {
+        if (address.isEmpty()) return false;
+
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < '0' || c > '9')) return false;
+        }
+
+        return true;
     }
 
     public String url() {
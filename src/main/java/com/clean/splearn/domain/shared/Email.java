@@ -1,14 +1,83 @@
 package com.clean.splearn.domain.shared;
 
-import java.util.regex.Pattern;
-
+/**
+ * 이메일 주소. 형식은 {@code local@label.….tld} 이다.
+ * <ul>
+ *     <li>local: 영문, 숫자, {@code _+&*-} 로 된 조각을 점 하나로 이어 붙인다</li>
+ *     <li>label: 영문, 숫자, {@code -}</li>
+ *     <li>tld: 영문 2 ~ 7자</li>
+ * </ul>
+ * 정규식 대신 한 번 훑어서 검사한다. 요청마다, 엔티티를 읽을 때마다 만들어지므로 할당과 역추적이 없어야 한다.
+ */
 public record Email(String address) {
-    private static final Pattern EMAIL_PATTERN =
-            Pattern.compile("^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+    private static final int MIN_TLD_LENGTH = 2;
+    private static final int MAX_TLD_LENGTH = 7;
 
     public Email {
-        if (!EMAIL_PATTERN.matcher(address).matches()) {
+        if (!isValid(address)) {
             throw new IllegalArgumentException("이메일 형식이 바르지 않습니다: " + address);
         }
     }
+
+    static boolean isValid(String address) {
+        int at = address.indexOf('@');
+        if (at <= 0) return false;
+
+        return isValidLocalPart(address, at) && isValidDomain(address, at + 1);
+    }
+
+    private static boolean isValidLocalPart(String address, int end) {
+        boolean afterDot = true;
+
+        for (int i = 0; i < end; i++) {
+            char c = address.charAt(i);
+            if (c == '.') {
+                if (afterDot) return false;
+                afterDot = true;
+            } else if (isLocalChar(c)) {
+                afterDot = false;
+            } else {
+                return false;
+            }
+        }
+
+        return !afterDot;
+    }
+
+    private static boolean isValidDomain(String address, int start) {
+        int labelStart = start;
+
+        for (int i = start; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (c == '.') {
+                if (i == labelStart) return false;
+                labelStart = i + 1;
+            } else if (!isAlphanumeric(c) && c != '-') {
+                return false;
+            }
+        }
+
+        if (labelStart == start) return false;
+
+        int tldLength = address.length() - labelStart;
+        if (tldLength < MIN_TLD_LENGTH || tldLength > MAX_TLD_LENGTH) return false;
+
+        for (int i = labelStart; i < address.length(); i++) {
+            if (!isLetter(address.charAt(i))) return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isAlphanumeric(c) || c == '_' || c == '+' || c == '&' || c == '*' || c == '-';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
 }
@@ -0,0 +1,3 @@
+-- 아웃박스 이벤트에 재시도 횟수와 다음 시도 시각을 더할 때 한 번 실행한다.
+ALTER TABLE member_event ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE member_event ADD COLUMN next_attempt_at DATETIME(6);
@@ -0,0 +1,3 @@
+-- 회원에 낙관적 잠금 버전(ETag)을 더할 때 한 번 실행한다.
+-- ddl-auto 가 없는 환경에서도 기존 행이 0 에서 시작하도록 기본값을 두고 추가한다.
+ALTER TABLE member ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- IDENTITY(auto_increment) 로 ID 를 만들던 MySQL 데이터베이스를 시퀀스(pooled) 방식으로 옮길 때 한 번 실행한다.
+-- MySQL 에는 시퀀스가 없으므로 Hibernate 는 splearn_id_seq 테이블로 시퀀스를 흉내 낸다.
+-- 기존 행의 가장 큰 ID 보다 할당 크기(50) 이상 큰 값에서 시작해야 새 ID 가 겹치지 않는다.
+-- splearn.id.strategy=TIME_ORDERED 로 바꿀 때는 데이터 이전이 필요 없다. 새 ID 가 기존 ID 보다 항상 크다.
+-- TIME_ORDERED 에서 SEQUENCE 로 되돌릴 때도 이 스크립트를 다시 실행한다.
+-- MySQL 전용이다. H2, PostgreSQL 처럼 시퀀스가 있는 DB 에서는 Hibernate 가 진짜 시퀀스를 쓰므로
+-- 기존 행의 가장 큰 ID + 100 을 직접 넣어 다음처럼 만든다(ddl-auto 로 새로 만드는 테스트 DB 는 필요 없다).
+--   CREATE SEQUENCE splearn_id_seq START WITH <가장 큰 ID + 100> INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS splearn_id_seq (next_val BIGINT);
+
+DELETE FROM splearn_id_seq;
+
+INSERT INTO splearn_id_seq (next_val)
+SELECT GREATEST(
+               (SELECT COALESCE(MAX(id), 0) FROM member),
+               (SELECT COALESCE(MAX(id), 0) FROM member_detail),
+               (SELECT COALESCE(MAX(id), 0) FROM member_event)
+       ) + 100;
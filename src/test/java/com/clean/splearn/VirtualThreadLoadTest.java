@@ -0,0 +1,110 @@
+package com.clean.splearn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 모드에서 동시 클라이언트가 많을 때의 처리량과 p99 를 비교한다.
+ * 오래 걸리므로 ./gradlew loadTest 로만 실행한다. 결과는 표준 출력에 남는다.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    @DisplayName("가상 스레드 모드와 플랫폼 스레드 모드의 처리량과 p99 를 비교한다.")
+    @Test
+    void compare() {
+        Result platform = run("platform");
+        Result virtual = run("virtual");
+
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+    }
+
+    private Result run(String mode) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SplearnApplication.class)
+                .profiles(mode.equals("virtual") ? new String[]{"virtual-threads"} : new String[0])
+                .properties(
+                        "server.port=0",
+                        // 플랫폼 스레드 모드는 요청 스레드 수가 동시 처리 수의 상한이 된다
+                        "server.tomcat.threads.max=50",
+                        "spring.jpa.show-sql=false",
+                        "splearn.outbox.relay.enabled=false",
+                        "splearn.security.password.strength=4",
+                        "logging.level.root=WARN"
+                )
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            return load(mode, URI.create("http://localhost:" + port + "/api/members"));
+        }
+    }
+
+    private Result load(String mode, URI uri) {
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger failures = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(clients).build()) {
+            for (int client = 0; client < CLIENTS; client++) {
+                int clientId = client;
+                clients.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        int n = clientId * REQUESTS_PER_CLIENT + i;
+                        latencies[n] = send(httpClient, uri, mode + n, failures);
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        return new Result(mode, latencies.length * 1_000_000_000.0 / elapsed,
+                latencies[(int) (latencies.length * 0.99) - 1] / 1_000_000.0, failures.get());
+    }
+
+    private static long send(HttpClient httpClient, URI uri, String name, AtomicInteger failures) {
+        String body = """
+                {"email":"%s@splearn.app","nickname":"%s","password":"verysecret"}""".formatted(name, name);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) failures.incrementAndGet();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private record Result(String mode, double throughput, double p99Millis, int failures) {
+        @Override
+        public String toString() {
+            return "%-8s throughput: %8.1f req/s, p99: %8.1f ms, failures: %d".formatted(mode, throughput, p99Millis, failures);
+        }
+    }
+}
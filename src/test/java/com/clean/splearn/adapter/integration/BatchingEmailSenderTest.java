@@ -0,0 +1,162 @@
+package com.clean.splearn.adapter.integration;
+
+import com.clean.splearn.application.member.required.EmailSender;
+import com.clean.splearn.domain.shared.Email;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchingEmailSenderTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("큐에 쌓인 메일을 워커 스레드에서 발송한다.")
+    @Test
+    void sendAsync() throws InterruptedException {
+        // given
+        CountDownLatch latch = new CountDownLatch(3);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        EmailSender delegate = (email, subject, body) -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        };
+        BatchingEmailSender sender = new BatchingEmailSender(delegate, properties(10, 1), meterRegistry);
+        sender.start();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            sender.send(new Email("user" + i + "@splearn.app"), "subject", "body");
+        }
+
+        // then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).allMatch(name -> name.startsWith("email-dispatch-"));
+        assertThat(meterRegistry.get("splearn.email.flush").timer().count()).isPositive();
+        sender.stop();
+    }
+
+    @DisplayName("큐가 가득 차면 호출 스레드에서 발송하지 않고 실패로 알린다.")
+    @Test
+    void rejectWhenQueueIsFull() {
+        // given
+        List<String> threads = new CopyOnWriteArrayList<>();
+        EmailSender delegate = (email, subject, body) -> threads.add(Thread.currentThread().getName());
+        BatchingEmailSender sender = new BatchingEmailSender(delegate, properties(1, 0), meterRegistry);
+        sender.start();
+
+        // when
+        sender.send(new Email("user1@splearn.app"), "subject", "body");
+        CompletableFuture<Void> rejected = sender.sendAsync(new Email("user2@splearn.app"), "subject", "body");
+
+        // then
+        assertThat(threads).isEmpty();
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(meterRegistry.get("splearn.email.queue.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("splearn.email.queue.size").gauge().value()).isEqualTo(1);
+    }
+
+    @DisplayName("종료할 때 shutdownTimeout 이 지나면 더 기다리지 않고 남은 메일을 실패로 알린다.")
+    @Test
+    void stopWithinShutdownTimeout() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        EmailSender delegate = (email, subject, body) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        BatchingEmailSender sender = new BatchingEmailSender(delegate, properties(10, 1), meterRegistry);
+        sender.start();
+        sender.send(new Email("user1@splearn.app"), "subject", "body");
+
+        // when
+        long startedAt = System.nanoTime();
+        sender.stop();
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        release.countDown();
+    }
+
+    @DisplayName("트랜잭션 안에서 요청된 메일은 커밋 이후에 큐에 들어간다.")
+    @Test
+    void sendAfterCommit() {
+        // given
+        BatchingEmailSender sender = new BatchingEmailSender((email, subject, body) -> {}, properties(10, 0), meterRegistry);
+        sender.start();
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            sender.send(new Email("user1@splearn.app"), "subject", "body");
+
+            // then
+            assertThat(meterRegistry.get("splearn.email.queue.size").gauge().value()).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(meterRegistry.get("splearn.email.queue.size").gauge().value()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("종료할 때 큐에 남은 메일을 모두 발송한다.")
+    @Test
+    void drainOnStop() {
+        // given
+        List<Email> sent = new CopyOnWriteArrayList<>();
+        BatchingEmailSender sender = new BatchingEmailSender((email, subject, body) -> sent.add(email), properties(10, 1), meterRegistry);
+        sender.start();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            sender.send(new Email("user" + i + "@splearn.app"), "subject", "body");
+        }
+        sender.stop();
+
+        // then
+        assertThat(sent).hasSize(5);
+        assertThat(sender.isRunning()).isFalse();
+    }
+
+    @DisplayName("sendAsync 는 워커가 발송을 마치면 완료되고, 실패하면 그 예외로 끝난다.")
+    @Test
+    void sendAsyncReportsResult() {
+        // given
+        EmailSender delegate = (email, subject, body) -> {
+            if (email.address().startsWith("fail")) throw new IllegalStateException("메일 서버 오류");
+        };
+        BatchingEmailSender sender = new BatchingEmailSender(delegate, properties(10, 1), meterRegistry);
+        sender.start();
+
+        // when
+        CompletableFuture<Void> sent = sender.sendAsync(new Email("user@splearn.app"), "subject", "body");
+        CompletableFuture<Void> failed = sender.sendAsync(new Email("fail@splearn.app"), "subject", "body");
+
+        // then
+        assertThat(sent).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(failed).failsWithin(Duration.ofSeconds(1))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("splearn.email.failed").counter().count()).isEqualTo(1);
+        sender.stop();
+    }
+
+    private EmailDispatchProperties properties(int queueCapacity, int workers) {
+        return new EmailDispatchProperties(queueCapacity, workers, false, 2, Duration.ofMillis(50), Duration.ofMillis(10),
+                Duration.ofMillis(200));
+    }
+}
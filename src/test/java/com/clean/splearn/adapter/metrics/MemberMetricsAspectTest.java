@@ -0,0 +1,67 @@
+package com.clean.splearn.adapter.metrics;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.application.member.provided.MemberFinder;
+import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.domain.member.MemberFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record MemberMetricsAspectTest(MemberRegister memberRegister, MemberFinder memberFinder, MeterRegistry meterRegistry) {
+
+    @DisplayName("회원 등록 유스케이스와 그 안에서 부른 포트의 시간을 결과별로 잰다.")
+    @Test
+    void register() {
+        // given
+        long registered = useCaseCount("MemberRegister", "register", "success");
+        long duplicated = useCaseCount("MemberRegister", "register", "duplicate");
+        long saved = portCount("MemberRepository", "save");
+        long encoded = portCount("PasswordEncoder", "encode");
+
+        // when
+        memberRegister.register(MemberFixture.createMemberRegisterRequest());
+        assertThatThrownBy(() -> memberRegister.register(MemberFixture.createMemberRegisterRequest()));
+
+        // then
+        assertThat(useCaseCount("MemberRegister", "register", "success")).isEqualTo(registered + 1);
+        assertThat(useCaseCount("MemberRegister", "register", "duplicate")).isEqualTo(duplicated + 1);
+        assertThat(portCount("MemberRepository", "save")).isGreaterThan(saved);
+        assertThat(portCount("PasswordEncoder", "encode")).isEqualTo(encoded + 1);
+    }
+
+    @DisplayName("없는 회원을 찾으면 not_found 로 남긴다.")
+    @Test
+    void notFound() {
+        // given
+        long notFound = useCaseCount("MemberFinder", "find", "not_found");
+
+        // when
+        assertThatThrownBy(() -> memberFinder.find(-1L));
+
+        // then
+        assertThat(useCaseCount("MemberFinder", "find", "not_found")).isGreaterThan(notFound);
+    }
+
+    private long useCaseCount(String port, String operation, String outcome) {
+        return meterRegistry.find(MemberMetricsAspect.USE_CASE_TIMER)
+                .tags("port", port, "operation", operation, "outcome", outcome)
+                .timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    private long portCount(String port, String operation) {
+        return meterRegistry.find(MemberMetricsAspect.PORT_TIMER)
+                .tags("port", port, "operation", operation, "outcome", "success")
+                .timers().stream().mapToLong(Timer::count).sum();
+    }
+}
@@ -1,16 +1,36 @@
 package com.clean.splearn.adapter.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256;
 
 class SecurePasswordEncoderTest {
+    private final List<SecurePasswordEncoder> encoders = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        encoders.forEach(SecurePasswordEncoder::shutdown);
+    }
+
     @DisplayName("암호화된 패스워드를 matches 메소드를 통해 비교할 수 있다.")
     @Test
     void securePasswordEncoder() {
         // given
-        SecurePasswordEncoder securePasswordEncoder = new SecurePasswordEncoder();
+        SecurePasswordEncoder securePasswordEncoder = encoder(PasswordHashingProperties.defaults());
 
         // when
         String passwordHash = securePasswordEncoder.encode("secret");
@@ -20,4 +40,150 @@ class SecurePasswordEncoderTest {
         assertThat(securePasswordEncoder.matches("wrong", passwordHash)).isFalse();
     }
 
-}
\ No newline at end of file
+    @DisplayName("해시에는 알고리즘 접두사가 붙고, 접두사가 없는 예전 bcrypt 해시도 검증할 수 있다.")
+    @Test
+    void prefixedHash() {
+        // given
+        SecurePasswordEncoder securePasswordEncoder = encoder(PasswordHashingProperties.defaults());
+        String legacyHash = new BCryptPasswordEncoder().encode("secret");
+
+        // when
+        String passwordHash = securePasswordEncoder.encode("secret");
+
+        // then
+        assertThat(passwordHash).startsWith("{bcrypt}");
+        assertThat(securePasswordEncoder.matches("secret", legacyHash)).isTrue();
+    }
+
+    @DisplayName("알고 있는 알고리즘의 형식에 맞는 해시만 가져올 수 있다.")
+    @Test
+    void isRecognizedHash() {
+        // given
+        SecurePasswordEncoder securePasswordEncoder = encoder(PasswordHashingProperties.defaults());
+        SecurePasswordEncoder pbkdf2Encoder = encoder(properties("pbkdf2", 10));
+
+        // when // then
+        assertThat(securePasswordEncoder.isRecognizedHash(securePasswordEncoder.encode("secret"))).isTrue();
+        assertThat(securePasswordEncoder.isRecognizedHash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(securePasswordEncoder.isRecognizedHash(pbkdf2Encoder.encode("secret"))).isTrue();
+        assertThat(securePasswordEncoder.isRecognizedHash("secret")).isFalse();
+        assertThat(securePasswordEncoder.isRecognizedHash("5f4dcc3b5aa765d61d8327deb882cf99")).isFalse();
+        assertThat(securePasswordEncoder.isRecognizedHash("{md5}5f4dcc3b5aa765d61d8327deb882cf99")).isFalse();
+        assertThat(securePasswordEncoder.isRecognizedHash("{bcrypt}$2a$10$garbage")).isFalse();
+        assertThat(securePasswordEncoder.isRecognizedHash("{pbkdf2}not-hex")).isFalse();
+    }
+
+    @DisplayName("현재 알고리즘, cost 와 다른 해시는 다시 해시해야 한다.")
+    @Test
+    void upgradeEncoding() {
+        // given
+        SecurePasswordEncoder securePasswordEncoder = encoder(PasswordHashingProperties.defaults());
+        SecurePasswordEncoder pbkdf2Encoder = encoder(properties("pbkdf2", 10));
+
+        // when // then
+        assertThat(securePasswordEncoder.upgradeEncoding(securePasswordEncoder.encode("secret"))).isFalse();
+        assertThat(securePasswordEncoder.upgradeEncoding(new BCryptPasswordEncoder().encode("secret"))).isTrue();
+        assertThat(securePasswordEncoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(securePasswordEncoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(12).encode("secret"))).isTrue();
+        assertThat(securePasswordEncoder.upgradeEncoding("{bcrypt}")).isTrue();
+        assertThat(securePasswordEncoder.upgradeEncoding("{bcrypt}$2a$x1$garbage")).isTrue();
+
+        String pbkdf2Hash = pbkdf2Encoder.encode("secret");
+        assertThat(pbkdf2Hash).startsWith("{pbkdf2-310000}");
+        assertThat(pbkdf2Encoder.upgradeEncoding(pbkdf2Hash)).isFalse();
+        assertThat(securePasswordEncoder.upgradeEncoding(pbkdf2Hash)).isTrue();
+        assertThat(securePasswordEncoder.matches("secret", pbkdf2Hash)).isTrue();
+    }
+
+    @DisplayName("PBKDF2 반복 횟수를 바꿔도 예전 해시를 검증할 수 있고, 다시 해시해야 하는 것으로 본다.")
+    @Test
+    void pbkdf2IterationsChanged() {
+        // given
+        SecurePasswordEncoder before = encoder(pbkdf2Properties(1000));
+        SecurePasswordEncoder after = encoder(pbkdf2Properties(2000));
+        String oldHash = before.encode("secret");
+        String legacyHash = "{pbkdf2}" + new Pbkdf2PasswordEncoder("", 16, 2000, PBKDF2WithHmacSHA256).encode("secret");
+
+        // when // then
+        assertThat(oldHash).startsWith("{pbkdf2-1000}");
+        assertThat(after.matches("secret", oldHash)).isTrue();
+        assertThat(after.matches("wrong", oldHash)).isFalse();
+        assertThat(after.upgradeEncoding(oldHash)).isTrue();
+        assertThat(after.matches("secret", legacyHash)).isTrue();
+        assertThat(after.upgradeEncoding(legacyHash)).isTrue();
+        assertThat(after.upgradeEncoding(after.encode("secret"))).isFalse();
+        assertThat(after.isRecognizedHash(oldHash)).isTrue();
+        assertThat(after.isRecognizedHash("{pbkdf2-0}" + oldHash.substring("{pbkdf2-1000}".length()))).isFalse();
+    }
+
+    @DisplayName("해시 시간을 기록한다.")
+    @Test
+    void hashTimer() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SecurePasswordEncoder securePasswordEncoder = encoder(PasswordHashingProperties.defaults(), meterRegistry);
+
+        // when
+        String passwordHash = securePasswordEncoder.encode("secret");
+        securePasswordEncoder.matches("secret", passwordHash);
+
+        // then
+        assertThat(meterRegistry.get("splearn.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("splearn.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("해시 스레드와 대기열이 모두 차면 바로 거절한다.")
+    @Test
+    void rejectWhenSaturated() {
+        // given
+        SecurePasswordEncoder securePasswordEncoder = encoder(properties("bcrypt", 12, 1, 1));
+
+        // when
+        List<CompletableFuture<String>> futures = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> securePasswordEncoder.encode("secret")))
+                .toList();
+
+        // then
+        assertThat(futures).anySatisfy(future -> assertThat(future)
+                .failsWithin(Duration.ofSeconds(10))
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(PasswordHashingBusyException.class));
+    }
+
+    @DisplayName("목표 해시 시간에 맞는 bcrypt cost 를 범위 안에서 고른다.")
+    @Test
+    void calibrate() {
+        // given // when
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ofMillis(1), 4, 6);
+        int maxStrength = BCryptStrengthCalibrator.calibrate(Duration.ofMinutes(1), 4, 6);
+
+        // then
+        assertThat(strength).isBetween(4, 6);
+        assertThat(maxStrength).isEqualTo(6);
+    }
+
+    private SecurePasswordEncoder encoder(PasswordHashingProperties properties) {
+        return encoder(properties, new SimpleMeterRegistry());
+    }
+
+    private SecurePasswordEncoder encoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        SecurePasswordEncoder encoder = new SecurePasswordEncoder(properties, meterRegistry);
+        encoders.add(encoder);
+        return encoder;
+    }
+
+    private PasswordHashingProperties properties(String algorithm, int strength) {
+        return properties(algorithm, strength, 0, 100);
+    }
+
+    private PasswordHashingProperties pbkdf2Properties(int pbkdf2Iterations) {
+        return new PasswordHashingProperties("pbkdf2", 10, false, Duration.ofMillis(250), 10, 16,
+                pbkdf2Iterations, 16384, 2, 0, 100);
+    }
+
+    private PasswordHashingProperties properties(String algorithm, int strength, int threads, int queueCapacity) {
+        return new PasswordHashingProperties(algorithm, strength, false, Duration.ofMillis(250), 10, 16,
+                310000, 16384, 2, threads, queueCapacity);
+    }
+}
@@ -0,0 +1,60 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.domain.member.MemberExportRow;
+import com.clean.splearn.domain.member.MemberStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvMemberExportWriterTest {
+
+    @DisplayName("헤더 다음에 회원을 한 줄씩 쓰고, 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싼다.")
+    @Test
+    void write() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        LocalDateTime registeredAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+        // when
+        try (CsvMemberExportWriter writer = new CsvMemberExportWriter(outputStream)) {
+            writer.write(new MemberExportRow(1L, "jsjangdv@gmail.com", "david", MemberStatus.PENDING,
+                    null, null, registeredAt, null, null));
+            writer.write(new MemberExportRow(2L, "toby@splearn.app", "toby", MemberStatus.ACTIVE,
+                    "toby", "안녕, \"토비\"\n입니다", registeredAt, registeredAt, null));
+        }
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+                CsvMemberExportWriter.HEADER + "\r\n"
+                + "1,jsjangdv@gmail.com,david,PENDING,,,2025-01-02T03:04:05,,\r\n"
+                + "2,toby@splearn.app,toby,ACTIVE,toby,\"안녕, \"\"토비\"\"\n입니다\",2025-01-02T03:04:05,2025-01-02T03:04:05,\r\n");
+    }
+
+    @DisplayName("수식으로 읽힐 수 있는 값 앞에는 ' 를 붙인다.")
+    @Test
+    void neutralizeFormula() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        LocalDateTime registeredAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+        // when
+        try (CsvMemberExportWriter writer = new CsvMemberExportWriter(outputStream)) {
+            writer.write(new MemberExportRow(1L, "a@splearn.app", "=HYPERLINK(\"x\")", MemberStatus.ACTIVE,
+                    null, "+1", registeredAt, null, null));
+            writer.write(new MemberExportRow(2L, "b@splearn.app", "@sum", MemberStatus.ACTIVE,
+                    null, "-2 ok", registeredAt, null, null));
+        }
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+                CsvMemberExportWriter.HEADER + "\r\n"
+                + "1,a@splearn.app,\"'=HYPERLINK(\"\"x\"\")\",ACTIVE,,'+1,2025-01-02T03:04:05,,\r\n"
+                + "2,b@splearn.app,'@sum,ACTIVE,,'-2 ok,2025-01-02T03:04:05,,\r\n");
+    }
+}
@@ -0,0 +1,53 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.domain.member.MemberImportLine;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvMemberImportReaderTest {
+
+    @DisplayName("헤더의 열 이름으로 값을 찾고, 따옴표로 감싼 쉼표, 따옴표, 줄바꿈을 한 값으로 읽는다.")
+    @Test
+    void read() throws IOException {
+        // given
+        String csv = "\uFEFFnickname,password,email\r\n"
+                + "david,\"se,cr\"\"et\nword\",jsjangdv@gmail.com\r\n"
+                + "\r\n"
+                + "toby,only-two-columns\n"
+                + "charlie,secret123,charlie@splearn.app";
+
+        // when
+        List<MemberImportLine> lines = new ArrayList<>();
+        try (CsvMemberImportReader reader = new CsvMemberImportReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            reader.forEachRemaining(lines::add);
+        }
+
+        // then
+        assertThat(lines).extracting(MemberImportLine::number).containsExactly(1L, 2L, 3L);
+        assertThat(lines.get(0).request()).isEqualTo(new MemberRegisterRequest("jsjangdv@gmail.com", "david", "se,cr\"et\nword"));
+        assertThat(lines.get(1).request()).isNull();
+        assertThat(lines.get(1).error()).isNotNull();
+        assertThat(lines.get(2).request()).isEqualTo(new MemberRegisterRequest("charlie@splearn.app", "charlie", "secret123"));
+    }
+
+    @DisplayName("헤더에 필요한 열이 없으면 읽기 전에 실패한다.")
+    @Test
+    void missingColumn() {
+        // given
+        byte[] csv = "email,nickname\n".getBytes(StandardCharsets.UTF_8);
+
+        // when // then
+        assertThatThrownBy(() -> new CsvMemberImportReader(new ByteArrayInputStream(csv)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.clean.splearn.adapter.webapi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+    private final IdempotencyStore store = new IdempotencyStore(new IdempotencyProperties(100, Duration.ofMinutes(1)));
+
+    @DisplayName("같은 키로 동시에 요청하면 한 번만 실행하고 나머지는 그 결과를 기다린다.")
+    @Test
+    void concurrent() throws InterruptedException, ExecutionException {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> responses = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            responses.add(executor.submit(() -> store.execute("key", "request", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "response";
+            })));
+            started.await();
+
+            for (int i = 0; i < 3; i++) {
+                responses.add(executor.submit(() -> store.execute("key", "request", () -> {
+                    executions.incrementAndGet();
+                    return "other";
+                })));
+            }
+            release.countDown();
+        }
+
+        // then
+        assertThat(executions).hasValue(1);
+        for (Future<String> response : responses) assertThat(response.get()).isEqualTo("response");
+    }
+
+    @DisplayName("실패한 요청은 보관하지 않아 같은 키로 다시 시도할 수 있다.")
+    @Test
+    void retryAfterFailure() {
+        assertThatThrownBy(() -> store.execute("key", "request", () -> {
+            throw new IllegalStateException("fail");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(store.execute("key", "request", () -> "response")).isEqualTo("response");
+    }
+
+    @DisplayName("같은 키에 다른 요청이 오면 거절한다.")
+    @Test
+    void reusedKey() {
+        store.execute("key", "request", () -> "response");
+
+        assertThatThrownBy(() -> store.execute("key", "other request", () -> "response"))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.clean.splearn.domain.member.MemberRegisterRequest;
 import com.clean.splearn.domain.member.MemberStatus;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +37,7 @@ class MeberApiTest {
     final ObjectMapper objectMapper;
     final MemberRepository memberRepository;
     final MemberRegister memberRegister;
+    final MeterRegistry meterRegistry;
 
     @DisplayName("회원을 등록한다.")
     @Test
@@ -81,4 +83,27 @@ class MeberApiTest {
                 .apply(print())
                 .hasStatus(HttpStatus.CONFLICT);
     }
+
+    @DisplayName("여러 회원을 요청한 순서대로 한 번의 쿼리로 조회하고, 없는 회원은 뺀다.")
+    @Test
+    void findAll() {
+        // given
+        Member first = memberRegister.register(MemberFixture.createMemberRegisterRequest("first@splearn.app"));
+        Member second = memberRegister.register(MemberFixture.createMemberRegisterRequest("second@splearn.app"));
+        double queries = meterRegistry.counter(MemberLoader.QUERIES).count();
+        double saved = meterRegistry.counter(MemberLoader.SAVED).count();
+
+        // when
+        MvcTestResult result = mvcTester.get()
+                .uri("/api/members/batch?ids={second},{first},{second},-1", second.getId(), first.getId(), second.getId())
+                .exchange();
+
+        // then
+        assertThat(result)
+                .hasStatusOk()
+                .bodyJson()
+                .extractingPath("$[*].email").asArray().containsExactly("second@splearn.app", "first@splearn.app");
+        assertThat(meterRegistry.counter(MemberLoader.QUERIES).count()).isEqualTo(queries + 1);
+        assertThat(meterRegistry.counter(MemberLoader.SAVED).count()).isEqualTo(saved);
+    }
 }
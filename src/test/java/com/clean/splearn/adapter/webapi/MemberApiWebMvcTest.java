@@ -1,26 +1,50 @@
 package com.clean.splearn.adapter.webapi;
 
+import com.clean.splearn.application.member.provided.MemberBulkRegisterLimitExceededException;
+import com.clean.splearn.application.member.provided.MemberFinder;
 import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.application.member.provided.MemberVersionConflictException;
 import com.clean.splearn.domain.member.Member;
 import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberInfoUpdateRequest;
+import com.clean.splearn.domain.member.MemberPage;
 import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.member.MemberRegisterResult;
+import com.clean.splearn.domain.member.MemberSearchCondition;
+import com.clean.splearn.domain.member.MemberStatus;
+import com.clean.splearn.domain.member.MemberSummary;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(MemberApi.class)
+@Import(IdempotencyStore.class)
+@EnableConfigurationProperties(IdempotencyProperties.class)
 @RequiredArgsConstructor
 class MemberApiWebMvcTest {
     final MockMvcTester mvcTester;
@@ -29,6 +53,12 @@ class MemberApiWebMvcTest {
     @MockitoBean
     MemberRegister memberRegister;
 
+    @MockitoBean
+    MemberFinder memberFinder;
+
+    @MockitoBean
+    MemberLoader memberLoader;
+
     @DisplayName("회원 등록 테스트")
     @Test
     void register() throws JsonProcessingException {
@@ -49,6 +79,44 @@ class MemberApiWebMvcTest {
         verify(memberRegister).register(request);
     }
 
+    @DisplayName("같은 Idempotency-Key 로 다시 등록하면 저장된 응답을 돌려주고 유스케이스는 한 번만 실행한다.")
+    @Test
+    void registerWithIdempotencyKey() throws JsonProcessingException {
+        // given
+        Member member = MemberFixture.createMember(1L);
+        when(memberRegister.register(any())).thenReturn(member);
+
+        String requestJson = objectMapper.writeValueAsString(MemberFixture.createMemberRegisterRequest());
+
+        // when // then
+        for (int i = 0; i < 2; i++) {
+            assertThat(mvcTester.post().uri("/api/members").contentType(MediaType.APPLICATION_JSON)
+                    .header(IdempotencyStore.HEADER, "retry-key").content(requestJson))
+                    .hasStatusOk()
+                    .bodyJson()
+                    .extractingPath("$.memberId").asNumber().isEqualTo(1);
+        }
+
+        verify(memberRegister, times(1)).register(any());
+    }
+
+    @DisplayName("같은 Idempotency-Key 를 다른 요청에 쓰면 실패한다.")
+    @Test
+    void idempotencyKeyReused() throws JsonProcessingException {
+        // given
+        when(memberRegister.register(any())).thenReturn(MemberFixture.createMember(1L));
+
+        mvcTester.post().uri("/api/members").contentType(MediaType.APPLICATION_JSON)
+                .header(IdempotencyStore.HEADER, "reused-key")
+                .content(objectMapper.writeValueAsString(MemberFixture.createMemberRegisterRequest())).exchange();
+
+        // when // then
+        assertThat(mvcTester.post().uri("/api/members").contentType(MediaType.APPLICATION_JSON)
+                .header(IdempotencyStore.HEADER, "reused-key")
+                .content(objectMapper.writeValueAsString(MemberFixture.createMemberRegisterRequest("other@splearn.app"))))
+                .hasStatus(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     @DisplayName("회원 등록 실패 테스트")
     @Test
     void registerFail() throws JsonProcessingException {
@@ -61,4 +129,185 @@ class MemberApiWebMvcTest {
                 .content(requestJson))
                 .hasStatus(HttpStatus.BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    @DisplayName("회원 일괄 등록 테스트")
+    @Test
+    void registerAll() throws JsonProcessingException {
+        // given
+        Member member = MemberFixture.createMember(1L);
+        when(memberRegister.registerAll(any())).thenReturn(List.of(
+                MemberRegisterResult.success(member),
+                MemberRegisterResult.failure("dup@splearn.app", "이미 사용중인 이메일입니다")
+        ));
+
+        List<MemberRegisterRequest> requests = List.of(
+                MemberFixture.createMemberRegisterRequest(),
+                MemberFixture.createMemberRegisterRequest("dup@splearn.app")
+        );
+        String requestJson = objectMapper.writeValueAsString(requests);
+
+        // when // then
+        assertThat(mvcTester.post().uri("/api/members/bulk").contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .hasStatusOk()
+                .bodyJson()
+                .extractingPath("$.registered").asNumber().isEqualTo(1);
+
+        verify(memberRegister).registerAll(requests);
+    }
+
+    @DisplayName("한 번에 등록할 수 있는 회원 수를 넘으면 400 을 돌려준다.")
+    @Test
+    void registerAllOverLimit() throws JsonProcessingException {
+        // given
+        when(memberRegister.registerAll(any())).thenThrow(new MemberBulkRegisterLimitExceededException(1));
+
+        String requestJson = objectMapper.writeValueAsString(List.of(
+                MemberFixture.createMemberRegisterRequest(),
+                MemberFixture.createMemberRegisterRequest("other@splearn.app")
+        ));
+
+        // when // then
+        assertThat(mvcTester.post().uri("/api/members/bulk").contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .hasStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @DisplayName("회원 목록 검색 테스트")
+    @Test
+    void search() {
+        // given
+        MemberSummary summary = new MemberSummary(1L, "jsjangdv@gmail.com", "david", MemberStatus.ACTIVE);
+        when(memberFinder.search(any(), eq(10L), eq(20))).thenReturn(new MemberPage(List.of(summary), 1L));
+
+        // when // then
+        assertThat(mvcTester.get().uri("/api/members?status=ACTIVE&email=js&cursor=10"))
+                .hasStatusOk()
+                .bodyJson()
+                .extractingPath("$.nextCursor").asNumber().isEqualTo(1);
+
+        verify(memberFinder).search(new MemberSearchCondition(MemberStatus.ACTIVE, null, null, "js", null), 10L, 20);
+    }
+
+    @DisplayName("페이지 크기는 100 을 넘을 수 없다.")
+    @Test
+    void searchFail() {
+        assertThat(mvcTester.get().uri("/api/members?size=101"))
+                .hasStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 회원은 100 명을 넘을 수 없다.")
+    @Test
+    void findAllOverLimit() {
+        // given
+        String ids = LongStream.rangeClosed(1, MemberApi.MAX_BATCH_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // when // then
+        assertThat(mvcTester.get().uri("/api/members/batch?ids=" + ids))
+                .hasStatus(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(memberLoader);
+    }
+
+    @DisplayName("회원 요약은 캐시를 거치는 findSummary 로 조회한다.")
+    @Test
+    void findSummary() {
+        // given
+        when(memberFinder.findSummary(1L)).thenReturn(new MemberSummary(1L, "jsjangdv@gmail.com", "david", MemberStatus.ACTIVE));
+
+        // when // then
+        assertThat(mvcTester.get().uri("/api/members/1/summary"))
+                .hasStatusOk()
+                .bodyJson()
+                .extractingPath("$.nickname").asString().isEqualTo("david");
+
+        verify(memberFinder, never()).findLatest(any());
+    }
+
+    @DisplayName("회원을 조회하면 버전으로 만든 ETag 와 재검증 캐시 정책을 준다.")
+    @Test
+    void find() {
+        // given
+        when(memberFinder.findLatest(1L)).thenReturn(memberWithVersion(3L));
+
+        // when // then
+        assertThat(mvcTester.get().uri("/api/members/1"))
+                .hasStatusOk()
+                .headers()
+                .hasValue(HttpHeaders.ETAG, "\"3\"")
+                .hasValue(HttpHeaders.CACHE_CONTROL, "no-cache, private");
+
+        verify(memberFinder, never()).findVersion(any());
+    }
+
+    @DisplayName("If-None-Match 가 현재 버전과 같으면 회원을 읽지 않고 304 로 응답한다.")
+    @Test
+    void findNotModified() {
+        // given
+        when(memberFinder.findVersion(1L)).thenReturn(3L);
+
+        // when // then
+        assertThat(mvcTester.get().uri("/api/members/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .hasStatus(HttpStatus.NOT_MODIFIED)
+                .headers()
+                .hasValue(HttpHeaders.ETAG, "\"3\"");
+
+        verify(memberFinder, never()).findLatest(any());
+    }
+
+    @DisplayName("If-None-Match 가 이전 버전이면 회원을 다시 읽어 새 ETag 로 응답한다.")
+    @Test
+    void findModified() {
+        // given
+        when(memberFinder.findVersion(1L)).thenReturn(4L);
+        when(memberFinder.findLatest(1L)).thenReturn(memberWithVersion(4L));
+
+        // when // then
+        assertThat(mvcTester.get().uri("/api/members/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .hasStatusOk()
+                .headers()
+                .hasValue(HttpHeaders.ETAG, "\"4\"");
+    }
+
+    @DisplayName("If-Match 의 버전으로 회원 정보를 수정하고 새 ETag 를 돌려준다.")
+    @Test
+    void updateInfo() throws JsonProcessingException {
+        // given
+        MemberInfoUpdateRequest request = new MemberInfoUpdateRequest("David", "jsjang", "자기소개");
+        when(memberRegister.updateInfo(1L, 3L, request)).thenReturn(memberWithVersion(4L));
+
+        // when // then
+        assertThat(mvcTester.put().uri("/api/members/1/info").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"3\"").content(objectMapper.writeValueAsString(request)))
+                .hasStatusOk()
+                .headers()
+                .hasValue(HttpHeaders.ETAG, "\"4\"");
+    }
+
+    @DisplayName("If-Match 가 없으면 428, 버전이 다르면 412 로 실패한다.")
+    @Test
+    void updateInfoFail() throws JsonProcessingException {
+        // given
+        String requestJson = objectMapper.writeValueAsString(new MemberInfoUpdateRequest("David", "jsjang", "자기소개"));
+        when(memberRegister.updateInfo(eq(1L), anyLong(), any()))
+                .thenThrow(new MemberVersionConflictException(1L, 2L));
+
+        // when // then
+        assertThat(mvcTester.put().uri("/api/members/1/info").contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .hasStatus(HttpStatus.PRECONDITION_REQUIRED);
+
+        assertThat(mvcTester.put().uri("/api/members/1/info").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"2\"").content(requestJson))
+                .hasStatus(HttpStatus.PRECONDITION_FAILED);
+
+        verify(memberRegister, never()).updateInfo(eq(1L), any());
+    }
+
+    private static Member memberWithVersion(long version) {
+        Member member = MemberFixture.createMember(1L);
+        ReflectionTestUtils.setField(member, "version", version);
+        return member;
+    }
+}
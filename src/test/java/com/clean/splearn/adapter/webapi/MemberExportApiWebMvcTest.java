@@ -0,0 +1,79 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.application.member.provided.MemberExporter;
+import com.clean.splearn.domain.member.MemberExportRow;
+import com.clean.splearn.domain.member.MemberStatus;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@WebMvcTest(MemberExportApi.class)
+@RequiredArgsConstructor
+class MemberExportApiWebMvcTest {
+    final MockMvcTester mvcTester;
+
+    @MockitoBean
+    MemberExporter memberExporter;
+
+    @DisplayName("회원을 한 줄에 하나씩 NDJSON 으로 내보낸다.")
+    @Test
+    void exportNdjson() throws IOException {
+        // given
+        givenMembers(MemberStatus.ACTIVE);
+
+        // when
+        MvcTestResult result = mvcTester.get().uri("/api/members/export?status=ACTIVE").exchange();
+
+        // then
+        assertThat(result).hasStatusOk().hasContentType("application/x-ndjson");
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n"))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":").contains("\"status\":\"ACTIVE\""));
+    }
+
+    @DisplayName("gzip 을 받을 수 있으면 CSV 를 압축해서 내보낸다.")
+    @Test
+    void exportCsvWithGzip() throws IOException {
+        // given
+        givenMembers(null);
+
+        // when
+        MvcTestResult result = mvcTester.get().uri("/api/members/export?format=CSV")
+                .header("Accept-Encoding", "gzip").exchange();
+
+        // then
+        assertThat(result).hasStatusOk().hasHeader("Content-Encoding", "gzip");
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(csv).startsWith(CsvMemberExportWriter.HEADER).contains("1,member1@splearn.app");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenMembers(MemberStatus status) {
+        when(memberExporter.export(eq(status), any())).thenAnswer(invocation -> {
+            Consumer<MemberExportRow> consumer = invocation.getArgument(1);
+            for (long id = 1; id <= 2; id++) {
+                consumer.accept(new MemberExportRow(id, "member" + id + "@splearn.app", "member" + id,
+                        MemberStatus.ACTIVE, null, null, LocalDateTime.now(), LocalDateTime.now(), null));
+            }
+            return 2L;
+        });
+    }
+}
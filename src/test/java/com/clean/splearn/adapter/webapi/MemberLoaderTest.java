@@ -0,0 +1,86 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.application.member.provided.MemberFinder;
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberLoaderTest {
+    MemberFinder memberFinder = mock(MemberFinder.class);
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    MemberLoader memberLoader = new MemberLoader(memberFinder, meterRegistry);
+
+    @DisplayName("모아 둔 id 를 한 번에 조회하고, 이미 조회한 회원은 다시 조회하지 않는다.")
+    @Test
+    void batchAndMemoize() {
+        // given
+        Member first = MemberFixture.createMember(1L);
+        Member second = MemberFixture.createMember(2L);
+        when(memberFinder.findAll(anyCollection())).thenReturn(Map.of(1L, first, 2L, second));
+
+        CompletableFuture<Member> loadedFirst = memberLoader.load(1L);
+        CompletableFuture<Member> loadedSecond = memberLoader.load(2L);
+
+        // when
+        Member found = memberLoader.get(1L);
+        Member foundAgain = memberLoader.get(2L);
+
+        // then
+        assertThat(found).isSameAs(first);
+        assertThat(foundAgain).isSameAs(second);
+        assertThat(loadedFirst).isCompletedWithValue(first);
+        assertThat(loadedSecond).isCompletedWithValue(second);
+        verify(memberFinder, times(1)).findAll(Set.of(1L, 2L));
+        assertThat(meterRegistry.counter(MemberLoader.QUERIES).count()).isEqualTo(1);
+        assertThat(meterRegistry.counter(MemberLoader.SAVED).count()).isEqualTo(2);
+    }
+
+    @DisplayName("getAll 로 받은 목록은 원래 한 번에 조회할 것이므로 아낀 쿼리로 세지 않는다.")
+    @Test
+    void getAllIsOneCall() {
+        // given
+        Member first = MemberFixture.createMember(1L);
+        Member second = MemberFixture.createMember(2L);
+        when(memberFinder.findAll(anyCollection())).thenReturn(Map.of(1L, first, 2L, second));
+
+        // when
+        memberLoader.getAll(List.of(1L, 2L, 1L));
+
+        // then
+        assertThat(meterRegistry.counter(MemberLoader.QUERIES).count()).isEqualTo(1);
+        assertThat(meterRegistry.counter(MemberLoader.SAVED).count()).isZero();
+    }
+
+    @DisplayName("없는 회원은 get 에서 에러가 발생하고, getAll 에서는 빠진다.")
+    @Test
+    void notFound() {
+        // given
+        Member first = MemberFixture.createMember(1L);
+        when(memberFinder.findAll(anyCollection())).thenReturn(Map.of(1L, first));
+
+        // when
+        Map<Long, Member> members = memberLoader.getAll(List.of(1L, 3L));
+
+        // then
+        assertThat(members).containsOnlyKeys(1L);
+        assertThatThrownBy(() -> memberLoader.get(3L)).isInstanceOf(MemberNotFoundException.class);
+        verify(memberFinder, times(1)).findAll(anyCollection());
+    }
+}
@@ -0,0 +1,67 @@
+package com.clean.splearn.adapter.webapi;
+
+import com.clean.splearn.application.member.provided.MemberNotFoundException;
+import com.clean.splearn.application.member.provided.MemberProfileFinder;
+import com.clean.splearn.domain.member.MemberProfileSummary;
+import com.clean.splearn.domain.member.Profile;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebMvcTest(MemberProfileApi.class)
+@EnableConfigurationProperties(HttpCacheProperties.class)
+@RequiredArgsConstructor
+class MemberProfileApiWebMvcTest {
+    final MockMvcTester mvcTester;
+
+    @MockitoBean
+    MemberProfileFinder memberProfileFinder;
+
+    @DisplayName("@ 를 붙인 프로필 주소로 공개 프로필을 조회한다.")
+    @Test
+    void find() {
+        // given
+        when(memberProfileFinder.find(new Profile("david")))
+                .thenReturn(new MemberProfileSummary(1L, "david", "david", "자기소개"));
+
+        // when // then
+        assertThat(mvcTester.get().uri("/api/profiles/@david"))
+                .hasStatusOk()
+                .headers()
+                .hasValue(HttpHeaders.CACHE_CONTROL, "max-age=60, public");
+    }
+
+    @DisplayName("형식에 맞지 않는 프로필 주소는 조회하지 않고 404 로 응답한다.")
+    @Test
+    void invalidAddress() {
+        assertThat(mvcTester.get().uri("/api/profiles/@David!"))
+                .hasStatus(HttpStatus.NOT_FOUND);
+        assertThat(mvcTester.get().uri("/api/profiles/@toolongprofileaddress"))
+                .hasStatus(HttpStatus.NOT_FOUND);
+
+        verify(memberProfileFinder, never()).find(any());
+    }
+
+    @DisplayName("프로필 주소를 가진 활성 회원이 없으면 404 로 응답한다.")
+    @Test
+    void notFound() {
+        // given
+        when(memberProfileFinder.find(new Profile("nobody"))).thenThrow(new MemberNotFoundException(new Profile("nobody")));
+
+        // when // then
+        assertThat(mvcTester.get().uri("/api/profiles/nobody"))
+                .hasStatus(HttpStatus.NOT_FOUND);
+    }
+}
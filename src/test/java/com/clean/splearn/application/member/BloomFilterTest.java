@@ -0,0 +1,50 @@
+package com.clean.splearn.application.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+    @DisplayName("추가한 값은 항상 있을 수 있다고 답한다.")
+    @Test
+    void noFalseNegative() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@splearn.app"));
+
+        // then
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("user" + i + "@splearn.app"));
+    }
+
+    @DisplayName("추가하지 않은 값을 있다고 답하는 비율은 설정한 확률 근처다.")
+    @Test
+    void falsePositiveProbability() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@splearn.app"));
+
+        // when
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("other" + i + "@splearn.app"))
+                .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @DisplayName("잘못된 설정으로는 만들 수 없다.")
+    @Test
+    void invalidSettings() {
+        // given // when // then
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,219 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.adapter.cache.InMemoryMemberCache;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberEvent;
+import com.clean.splearn.domain.member.MemberEventType;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberStatus;
+import com.clean.splearn.domain.member.MemberSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingMemberFinderTest {
+    MemberQueryService memberQueryService = mock(MemberQueryService.class);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    MemberCacheProperties properties = new MemberCacheProperties(100, Duration.ofMinutes(1),
+            new MemberCacheProperties.Shared(true, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+
+    @DisplayName("한 번 조회한 회원 요약은 캐시에서 꺼낸다.")
+    @Test
+    void findFromLocalCache() {
+        // given
+        CachingMemberFinder finder = new CachingMemberFinder(memberQueryService, Optional.empty(), properties, meterRegistry);
+        MemberSummary summary = summary(1L, "david");
+        when(memberQueryService.findSummary(1L)).thenReturn(summary);
+
+        // when
+        finder.findSummary(1L);
+        MemberSummary found = finder.findSummary(1L);
+
+        // then
+        assertThat(found).isSameAs(summary);
+        verify(memberQueryService, times(1)).findSummary(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "member").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("노드 안 캐시에 없으면 공유 캐시를 거쳐 조회하고, 공유 캐시에도 담는다.")
+    @Test
+    void findFromSharedCache() {
+        // given
+        InMemoryMemberCache sharedCache = new InMemoryMemberCache(properties);
+        MemberSummary summary = summary(1L, "david");
+        when(memberQueryService.findSummary(1L)).thenReturn(summary);
+
+        CachingMemberFinder node1 = new CachingMemberFinder(memberQueryService, Optional.of(sharedCache), properties, meterRegistry);
+        CachingMemberFinder node2 = new CachingMemberFinder(memberQueryService, Optional.of(sharedCache), properties, new SimpleMeterRegistry());
+
+        // when
+        node1.findSummary(1L);
+        MemberSummary found = node2.findSummary(1L);
+
+        // then
+        assertThat(found).isSameAs(summary);
+        verify(memberQueryService, times(1)).findSummary(1L);
+    }
+
+    @DisplayName("회원이 변경되면 캐시에서 지우고, 다음 조회는 DB 에서 읽는다.")
+    @Test
+    void evictOnMemberChanged() {
+        // given
+        InMemoryMemberCache sharedCache = new InMemoryMemberCache(properties);
+        CachingMemberFinder finder = new CachingMemberFinder(memberQueryService, Optional.of(sharedCache), properties, meterRegistry);
+        MemberSummary summary = summary(1L, "david");
+        when(memberQueryService.findSummary(1L)).thenReturn(summary);
+        finder.findSummary(1L);
+
+        // when
+        finder.onMemberChanged(MemberEvent.of(MemberFixture.createMember(1L), MemberEventType.ACTIVATED));
+        finder.findSummary(1L);
+
+        // then
+        assertThat(sharedCache.get(1L)).isEmpty();
+        verify(memberQueryService, times(2)).findSummary(1L);
+    }
+
+    @DisplayName("지우기 전에 읽은 예전 요약은 지운 뒤에 공유 캐시에 다시 담기지 않는다.")
+    @Test
+    void staleReadIsNotCachedAfterEvict() {
+        // given
+        InMemoryMemberCache sharedCache = new InMemoryMemberCache(properties);
+        MemberSummary stale = summary(1L, "david");
+
+        // when
+        sharedCache.evict(1L);
+        sharedCache.putIfAbsent(stale);
+
+        // then
+        assertThat(sharedCache.get(1L)).isEmpty();
+    }
+
+    @DisplayName("공유 캐시에 이미 있는 요약은 덮어쓰지 않는다.")
+    @Test
+    void putIfAbsent() {
+        // given
+        InMemoryMemberCache sharedCache = new InMemoryMemberCache(properties);
+        MemberSummary cached = summary(1L, "david");
+        sharedCache.putIfAbsent(cached);
+
+        // when
+        sharedCache.putIfAbsent(summary(1L, "toby"));
+
+        // then
+        assertThat(sharedCache.get(1L)).containsSame(cached);
+    }
+
+    @DisplayName("여러 회원 요약은 캐시에 있는 것은 그대로 쓰고 나머지만 한 번에 조회한다.")
+    @Test
+    void findSummaries() {
+        // given
+        CachingMemberFinder finder = new CachingMemberFinder(memberQueryService, Optional.empty(), properties, meterRegistry);
+        MemberSummary first = summary(1L, "david");
+        MemberSummary second = summary(2L, "toby");
+        when(memberQueryService.findSummary(1L)).thenReturn(first);
+        when(memberQueryService.findSummaries(List.of(2L))).thenReturn(Map.of(2L, second));
+        finder.findSummary(1L);
+
+        // when
+        Map<Long, MemberSummary> summaries = finder.findSummaries(List.of(2L, 1L));
+
+        // then
+        assertThat(summaries).containsExactly(Map.entry(2L, second), Map.entry(1L, first));
+        verify(memberQueryService).findSummaries(List.of(2L));
+    }
+
+    @DisplayName("여러 회원 요약을 조회하면 캐시에도 담아서, 다음 조회는 DB 에 가지 않는다.")
+    @Test
+    void findSummariesFillsCache() {
+        // given
+        InMemoryMemberCache sharedCache = new InMemoryMemberCache(properties);
+        CachingMemberFinder finder = new CachingMemberFinder(memberQueryService, Optional.of(sharedCache), properties, meterRegistry);
+        MemberSummary summary = summary(1L, "david");
+        when(memberQueryService.findSummaries(any())).thenReturn(Map.of(1L, summary));
+
+        // when
+        finder.findSummaries(List.of(1L, 2L));
+        Map<Long, MemberSummary> summaries = finder.findSummaries(List.of(1L));
+        MemberSummary found = finder.findSummary(1L);
+
+        // then
+        assertThat(summaries).containsExactly(Map.entry(1L, summary));
+        assertThat(found).isSameAs(summary);
+        assertThat(sharedCache.get(1L)).containsSame(summary);
+        verify(memberQueryService, times(1)).findSummaries(any());
+        verify(memberQueryService, never()).findSummary(1L);
+    }
+
+    @DisplayName("회원 엔티티는 요청마다 따로 조회해 함께 쓰지 않는다.")
+    @Test
+    void findDoesNotShareEntities() {
+        // given
+        CachingMemberFinder finder = new CachingMemberFinder(memberQueryService, Optional.empty(), properties, meterRegistry);
+        when(memberQueryService.find(1L)).thenReturn(MemberFixture.createMember(1L), MemberFixture.createMember(1L));
+
+        // when
+        Member first = finder.find(1L);
+        Member second = finder.find(1L);
+
+        // then
+        assertThat(first).isNotSameAs(second);
+        verify(memberQueryService, times(2)).find(1L);
+    }
+
+    @DisplayName("회원 이벤트 없이 버전이 바뀌어도 findLatest 는 DB 의 최신 회원을 준다.")
+    @Test
+    void findLatestReadsDatabase() {
+        // given
+        CachingMemberFinder finder = new CachingMemberFinder(memberQueryService, Optional.empty(), properties, meterRegistry);
+        Member changed = MemberFixture.createMember(1L);
+        ReflectionTestUtils.setField(changed, "version", 1L);
+        when(memberQueryService.find(1L)).thenReturn(changed);
+
+        // when
+        Member found = finder.findLatest(1L);
+
+        // then
+        assertThat(found.getVersion()).isEqualTo(1L);
+    }
+
+    @DisplayName("쓰기 트랜잭션 안에서는 캐시를 거치지 않는다.")
+    @Test
+    void bypassInWriteTransaction() {
+        // given
+        CachingMemberFinder finder = new CachingMemberFinder(memberQueryService, Optional.empty(), properties, meterRegistry);
+        when(memberQueryService.findSummary(1L)).thenReturn(summary(1L, "david"));
+
+        // when
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            finder.findSummary(1L);
+            finder.findSummary(1L);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // then
+        verify(memberQueryService, times(2)).findSummary(1L);
+    }
+
+    private static MemberSummary summary(Long memberId, String nickname) {
+        return new MemberSummary(memberId, nickname + "@splearn.app", nickname, MemberStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,84 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.MemberAsyncBusyException;
+import com.clean.splearn.application.member.provided.MemberFinder;
+import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberAsyncServiceTest {
+    MemberFinder memberFinder = mock(MemberFinder.class);
+    CountDownLatch release = new CountDownLatch(1);
+    MemberAsyncService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @DisplayName("플랫폼 스레드 풀의 대기열이 가득 차면 기다리지 않고 거절한다.")
+    @Test
+    void rejectWhenQueueFull() {
+        // given
+        service = createService(false, Duration.ofSeconds(10));
+        givenSlowFind();
+        CompletableFuture<Member> running = service.findAsync(1L);
+        CompletableFuture<Member> queued = service.findAsync(1L);
+
+        // when
+        CompletableFuture<Member> rejected = service.findAsync(1L);
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.exceptionNow()).isInstanceOf(MemberAsyncBusyException.class);
+
+        release.countDown();
+        assertThat(running.join()).isNotNull();
+        assertThat(queued.join()).isNotNull();
+    }
+
+    @DisplayName("가상 스레드는 정해진 시간 안에 실행 허가를 얻지 못하면 거절한다.")
+    @Test
+    void rejectWhenPermitTimeout() {
+        // given
+        service = createService(true, Duration.ofMillis(50));
+        givenSlowFind();
+        CompletableFuture<Member> running = service.findAsync(1L);
+
+        // when
+        CompletableFuture<Member> rejected = service.findAsync(1L);
+
+        // then
+        assertThat(rejected).failsWithin(Duration.ofSeconds(1))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(MemberAsyncBusyException.class);
+
+        release.countDown();
+        assertThat(running.join()).isNotNull();
+    }
+
+    private MemberAsyncService createService(boolean virtualThreads, Duration acquireTimeout) {
+        return new MemberAsyncService(memberFinder, mock(MemberRegister.class),
+                new MemberAsyncProperties(1, virtualThreads, 1, acquireTimeout));
+    }
+
+    private void givenSlowFind() {
+        when(memberFinder.find(1L)).thenAnswer(invocation -> {
+            release.await();
+            return MemberFixture.createMember(1L);
+        });
+    }
+}
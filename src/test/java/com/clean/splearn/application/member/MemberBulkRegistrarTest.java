@@ -0,0 +1,112 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.provided.MemberBulkRegisterLimitExceededException;
+import com.clean.splearn.application.member.required.MemberEventRepository;
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.member.MemberRegisterResult;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberBulkRegistrarTest {
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final MemberBulkRegistrar registrar = new MemberBulkRegistrar(memberRepository,
+            mock(MemberEventRepository.class), MemberFixture.createPasswordEncoder(),
+            mock(ApplicationEventPublisher.class), mock(MemberExistenceFilter.class),
+            Validation.buildDefaultValidatorFactory().getValidator(), transactionManager,
+            new MemberBulkRegisterProperties(2, 1));
+
+    @DisplayName("중복 확인 뒤에 다른 요청이 같은 이메일로 가입해 제약조건에 걸리면, 그 요청만 실패로 남기고 나머지는 다시 저장한다.")
+    @Test
+    void retryAfterConstraintViolation() {
+        // given
+        when(memberRepository.findExistingEmailAddresses(any()))
+                .thenReturn(List.of(), List.of("raced@splearn.app"));
+        doThrow(new DataIntegrityViolationException("duplicate email"))
+                .doNothing()
+                .when(memberRepository).flush();
+
+        List<MemberRegisterRequest> requests = List.of(
+                MemberFixture.createMemberRegisterRequest("raced@splearn.app"),
+                MemberFixture.createMemberRegisterRequest("bulk@splearn.app")
+        );
+
+        // when
+        List<MemberRegisterResult> results = registrar.registerAll(requests);
+
+        // then
+        assertThat(results).extracting(MemberRegisterResult::isSuccess).containsExactly(false, true);
+        assertThat(results.getFirst().failure()).isEqualTo("이미 사용중인 이메일입니다");
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @DisplayName("제약조건 위반이 계속되면 정해진 횟수만큼 시도한 뒤 예외를 던진다.")
+    @Test
+    void giveUpAfterMaxAttempts() {
+        // given
+        when(memberRepository.findExistingEmailAddresses(any())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("duplicate email")).when(memberRepository).flush();
+
+        // when // then
+        assertThatThrownBy(() -> registrar.registerAll(List.of(MemberFixture.createMemberRegisterRequest())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(transactionManager, times(3)).rollback(any());
+    }
+
+    @DisplayName("이메일 중복은 대소문자를 구분하지 않고 확인한다.")
+    @Test
+    void duplicateEmailIgnoresCase() {
+        // given
+        when(memberRepository.findExistingEmailAddresses(any())).thenReturn(List.of("registered@splearn.app"));
+
+        List<MemberRegisterRequest> requests = List.of(
+                MemberFixture.createMemberRegisterRequest("Registered@splearn.app"),
+                MemberFixture.createMemberRegisterRequest("Bulk@splearn.app")
+        );
+        List<MemberRegisterRequest> duplicated = List.of(
+                MemberFixture.createMemberRegisterRequest("bulk@splearn.app"),
+                MemberFixture.createMemberRegisterRequest("BULK@splearn.app")
+        );
+
+        // when
+        List<MemberRegisterResult> results = registrar.registerAll(requests);
+        List<MemberRegisterResult> duplicatedResults = registrar.registerAll(duplicated);
+
+        // then
+        assertThat(results).extracting(MemberRegisterResult::isSuccess).containsExactly(false, true);
+        assertThat(results.getFirst().failure()).isEqualTo("이미 사용중인 이메일입니다");
+        assertThat(duplicatedResults.get(1).failure()).isEqualTo("요청 안에서 중복된 이메일입니다");
+    }
+
+    @DisplayName("한 번에 등록할 수 있는 수를 넘으면 예외를 던진다.")
+    @Test
+    void registerAllOverLimit() {
+        List<MemberRegisterRequest> requests = List.of(
+                MemberFixture.createMemberRegisterRequest("bulk1@splearn.app"),
+                MemberFixture.createMemberRegisterRequest("bulk2@splearn.app"),
+                MemberFixture.createMemberRegisterRequest("bulk3@splearn.app")
+        );
+
+        assertThatThrownBy(() -> registrar.registerAll(requests))
+                .isInstanceOf(MemberBulkRegisterLimitExceededException.class);
+    }
+}
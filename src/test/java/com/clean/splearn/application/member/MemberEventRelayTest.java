@@ -0,0 +1,101 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.application.member.required.MemberEventRepository;
+import com.clean.splearn.application.member.required.MemberEventSubscriber;
+import com.clean.splearn.domain.member.MemberEvent;
+import com.clean.splearn.domain.member.MemberEventType;
+import com.clean.splearn.domain.member.MemberFixture;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record MemberEventRelayTest(MemberEventRelay memberEventRelay, MemberRegister memberRegister,
+                            MemberEventRepository memberEventRepository, EntityManager entityManager) {
+    @DisplayName("회원을 등록하면 아웃박스에 이벤트가 쌓이고, 릴레이가 발행 완료로 표시한다.")
+    @Test
+    void relay() {
+        // given
+        memberRegister.register(MemberFixture.createMemberRegisterRequest());
+        entityManager.flush();
+
+        // when
+        int published = memberEventRelay.relay(10);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        assertThat(memberEventRepository.findByPublishedAtIsNullOrderById(Limit.of(10))).isEmpty();
+    }
+
+    @DisplayName("구독자가 실패한 이벤트는 미루고, 뒤의 이벤트는 그대로 발행한다.")
+    @Test
+    void relayContinuesAfterFailure() {
+        // given
+        MemberEvent failing = MemberEvent.of(MemberFixture.createMember(1L), MemberEventType.REGISTERED);
+        MemberEvent next = MemberEvent.of(MemberFixture.createMember(2L), MemberEventType.REGISTERED);
+        MemberEventRepository repository = mock(MemberEventRepository.class);
+        when(repository.findDeliverable(any(), any())).thenReturn(List.of(failing, next), List.of(failing));
+        MemberEventSubscriber subscriber = event -> event == failing
+                ? CompletableFuture.failedFuture(new IllegalStateException("메일 서버 오류"))
+                : CompletableFuture.completedFuture(null);
+        MemberEventRelay relay = new MemberEventRelay(repository, List.of(subscriber),
+                new MemberEventRetryProperties(Duration.ofSeconds(10), Duration.ofHours(1), Duration.ofSeconds(1)),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+        // when
+        int published = relay.relay(10);
+        relay.relay(10);
+
+        // then
+        assertThat(published).isEqualTo(1);
+        assertThat(next.isPublished()).isTrue();
+        assertThat(failing.isPublished()).isFalse();
+        assertThat(failing.getAttempts()).isEqualTo(2);
+        assertThat(failing.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(15));
+    }
+
+    @DisplayName("구독자가 claimTimeout 안에 끝내지 못한 이벤트는 실패로 보고 미룬다.")
+    @Test
+    void relayGivesUpOnSlowDelivery() {
+        // given
+        MemberEvent event = MemberEvent.of(MemberFixture.createMember(1L), MemberEventType.REGISTERED);
+        MemberEventRepository repository = mock(MemberEventRepository.class);
+        when(repository.findDeliverable(any(), any())).thenReturn(List.of(event));
+        MemberEventSubscriber subscriber = e -> new CompletableFuture<>();
+        MemberEventRelay relay = new MemberEventRelay(repository, List.of(subscriber),
+                new MemberEventRetryProperties(Duration.ofSeconds(10), Duration.ofHours(1), Duration.ofMillis(50)),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+        // when
+        int published = relay.relay(10);
+
+        // then
+        assertThat(published).isZero();
+        assertThat(event.isPublished()).isFalse();
+        assertThat(event.getAttempts()).isEqualTo(1);
+        verify(repository).save(event);
+    }
+}
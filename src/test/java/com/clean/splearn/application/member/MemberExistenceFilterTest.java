@@ -0,0 +1,62 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.Profile;
+import com.clean.splearn.domain.shared.Email;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberExistenceFilterTest {
+    MemberRepository memberRepository = mock(MemberRepository.class);
+    MemberExistenceFilter filter = new MemberExistenceFilter(memberRepository,
+            new MemberExistenceFilterProperties(true, 1000, 0.01), new SimpleMeterRegistry());
+
+    @DisplayName("채우기 전에는 항상 있을 수 있다고 답한다.")
+    @Test
+    void notReady() {
+        // given // when // then
+        assertThat(filter.mightContain(new Email("nobody@splearn.app"))).isTrue();
+        assertThat(filter.mightContain(new Profile("nobody"))).isTrue();
+    }
+
+    @DisplayName("DB 의 값으로 채운 뒤에는 없는 값을 바로 걸러낸다.")
+    @Test
+    void warmUp() {
+        // given
+        when(memberRepository.streamEmailAddresses()).thenReturn(Stream.of("jsjangdv@gmail.com"));
+        when(memberRepository.streamProfileAddresses()).thenReturn(Stream.of("jsjang"));
+
+        // when
+        filter.warmUp();
+
+        // then
+        assertThat(filter.mightContain(new Email("jsjangdv@gmail.com"))).isTrue();
+        assertThat(filter.mightContain(new Email("nobody@splearn.app"))).isFalse();
+        assertThat(filter.mightContain(new Profile("jsjang"))).isTrue();
+        assertThat(filter.mightContain(new Profile("nobody"))).isFalse();
+    }
+
+    @DisplayName("새로 추가된 값은 바로 반영된다.")
+    @Test
+    void add() {
+        // given
+        when(memberRepository.streamEmailAddresses()).thenReturn(Stream.empty());
+        when(memberRepository.streamProfileAddresses()).thenReturn(Stream.empty());
+        filter.warmUp();
+
+        // when
+        filter.add(new Email("new@splearn.app"));
+        filter.add(new Profile("newbie"));
+
+        // then
+        assertThat(filter.mightContain(new Email("new@splearn.app"))).isTrue();
+        assertThat(filter.mightContain(new Profile("newbie"))).isTrue();
+    }
+}
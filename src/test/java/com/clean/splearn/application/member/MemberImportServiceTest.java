@@ -0,0 +1,54 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberImportCheckpointRepository;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberImportCheckpoint;
+import com.clean.splearn.domain.member.MemberImportLine;
+import com.clean.splearn.domain.member.MemberRegisterResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberImportServiceTest {
+    MemberBulkRegistrar memberBulkRegistrar = mock(MemberBulkRegistrar.class);
+    MemberImportCheckpointRepository checkpointRepository = mock(MemberImportCheckpointRepository.class);
+    MemberImportService memberImportService = new MemberImportService(memberBulkRegistrar, checkpointRepository,
+            new MemberImportProperties(10, 10));
+
+    @DisplayName("저장을 다시 시도해도 체크포인트는 한 번만 옮긴다.")
+    @Test
+    void advanceCheckpointOncePerChunk() {
+        // given
+        List<MemberRegisterResult> results = List.of(MemberRegisterResult.success(MemberFixture.createMember(1L)));
+        when(checkpointRepository.findByJobId("job")).thenReturn(Optional.empty());
+        when(memberBulkRegistrar.register(any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            Consumer<List<MemberRegisterResult>> beforeCommit = invocation.getArgument(2);
+            beforeCommit.accept(results); // 제약조건에 걸려 되돌려진 시도
+            beforeCommit.accept(results);
+            return results;
+        });
+
+        // when
+        memberImportService.importMembers("job", false, List.of(
+                MemberImportLine.of(1, MemberFixture.createMemberRegisterRequest("import@splearn.app"))
+        ).iterator());
+
+        // then
+        ArgumentCaptor<MemberImportCheckpoint> saved = ArgumentCaptor.forClass(MemberImportCheckpoint.class);
+        verify(checkpointRepository, times(2)).save(saved.capture());
+        assertThat(saved.getValue().getImported()).isEqualTo(1);
+        assertThat(saved.getValue().getLastLine()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.application.member.provided.MemberRegister;
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record MemberLifecycleServiceTest(MemberLifecycleService memberLifecycleService, MemberRegister memberRegister,
+                                  MemberRepository memberRepository, EntityManager entityManager) {
+    @DisplayName("기한이 지난 대기 회원을 청크 크기만큼씩 만료시키고, 활성 회원은 그대로 둔다.")
+    @Test
+    void expirePending() {
+        // given
+        Member pending1 = memberRegister.register(MemberFixture.createMemberRegisterRequest("pending1@splearn.app"));
+        Member pending2 = memberRegister.register(MemberFixture.createMemberRegisterRequest("pending2@splearn.app"));
+        Member active = memberRegister.register(MemberFixture.createMemberRegisterRequest("active@splearn.app"));
+        memberRegister.activate(active.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime registeredBefore = LocalDateTime.now().plusSeconds(1);
+
+        // when
+        int first = memberLifecycleService.expirePending(registeredBefore, 1);
+        int second = memberLifecycleService.expirePending(registeredBefore, 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(first + second).isEqualTo(2);
+        assertThat(memberRepository.findWithDetailById(pending1.getId()).orElseThrow())
+                .satisfies(member -> {
+                    assertThat(member.getStatus()).isEqualTo(MemberStatus.EXPIRED);
+                    assertThat(member.getDetail().getDeactivatedAt()).isNotNull();
+                });
+        assertThat(memberRepository.findById(pending2.getId()).orElseThrow().getStatus()).isEqualTo(MemberStatus.EXPIRED);
+        assertThat(memberRepository.findById(active.getId()).orElseThrow().getStatus()).isEqualTo(MemberStatus.ACTIVE);
+    }
+
+    @DisplayName("기준 시각 뒤에 가입한 회원은 바꾸지 않는다.")
+    @Test
+    void deactivateActive() {
+        // given
+        Member active = memberRegister.register(MemberFixture.createMemberRegisterRequest("active@splearn.app"));
+        memberRegister.activate(active.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int deactivated = memberLifecycleService.deactivateActive(LocalDateTime.now().minusDays(1), 10);
+
+        // then
+        assertThat(deactivated).isZero();
+        assertThat(memberRepository.findById(active.getId()).orElseThrow().getStatus()).isEqualTo(MemberStatus.ACTIVE);
+    }
+}
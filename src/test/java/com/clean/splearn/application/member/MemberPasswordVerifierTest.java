@@ -0,0 +1,85 @@
+package com.clean.splearn.application.member;
+
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.PasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberPasswordVerifierTest {
+    MemberRepository memberRepository = mock(MemberRepository.class);
+    PasswordEncoder passwordEncoder = new UpgradingPasswordEncoder();
+    CachingMemberFinder memberFinder = mock(CachingMemberFinder.class);
+    MemberPasswordVerifier verifier = new MemberPasswordVerifier(memberRepository, passwordEncoder, memberFinder,
+            mock(PlatformTransactionManager.class));
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+    }
+
+    @DisplayName("예전 방식의 해시로 검증에 성공하면 백그라운드에서 다시 해시해 저장한다.")
+    @Test
+    void upgradeOutdatedHash() {
+        // given
+        Member member = MemberFixture.createMember(1L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // when
+        boolean verified = verifier.verify(member, "passwordSecret");
+
+        // then
+        assertThat(verified).isTrue();
+        verify(memberRepository, timeout(1000)).save(member);
+        verify(memberFinder, timeout(1000)).evict(1L);
+        assertThat(member.getPasswordHash()).startsWith("v2:");
+        assertThat(member.verifyPassword("passwordSecret", passwordEncoder)).isTrue();
+    }
+
+    @DisplayName("검증에 실패하면 다시 해시하지 않는다.")
+    @Test
+    void noUpgradeWhenNotMatched() {
+        // given
+        Member member = MemberFixture.createMember(1L);
+
+        // when
+        boolean verified = verifier.verify(member, "wrong");
+
+        // then
+        assertThat(verified).isFalse();
+        verify(memberRepository, never()).findById(1L);
+        verify(memberFinder, never()).evict(1L);
+    }
+
+    /**
+     * "v2:" 로 시작하지 않는 해시를 예전 방식으로 본다. MemberFixture 의 인코더가 만든 해시도 읽을 수 있다.
+     */
+    static class UpgradingPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(String password) {
+            return "v2:" + password.toUpperCase();
+        }
+
+        @Override
+        public boolean matches(String password, String passwordHash) {
+            return passwordHash.equals(encode(password)) || passwordHash.equals(password.toUpperCase());
+        }
+
+        @Override
+        public boolean upgradeEncoding(String passwordHash) {
+            return !passwordHash.startsWith("v2:");
+        }
+    }
+}
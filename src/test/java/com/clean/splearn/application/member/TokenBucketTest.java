@@ -0,0 +1,41 @@
+package com.clean.splearn.application.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @DisplayName("capacity 만큼 연달아 쓰면 다음 토큰이 채워질 때까지 기다려야 한다.")
+    @Test
+    void tryAcquire() {
+        // given
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(1), 0);
+
+        // when // then
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+        assertThat(bucket.tryAcquire(SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryAcquire(SECOND)).isZero();
+        assertThat(bucket.tryAcquire(SECOND)).isEqualTo(SECOND);
+    }
+
+    @DisplayName("오래 쓰지 않아도 capacity 보다 많이 쌓이지 않는다.")
+    @Test
+    void capacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1), 0);
+        long later = 100 * SECOND;
+
+        // when // then
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+}
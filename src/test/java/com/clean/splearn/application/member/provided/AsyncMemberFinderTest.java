@@ -0,0 +1,52 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberFixture;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record AsyncMemberFinderTest(AsyncMemberFinder asyncMemberFinder, AsyncMemberRegister asyncMemberRegister) {
+
+    @DisplayName("트랜잭션 안에서 호출하면 같은 트랜잭션에서 바로 실행해 커밋 전의 변경도 본다.")
+    @Test
+    void runInCallerTransaction() {
+        // given
+        CompletableFuture<Member> registered =
+                asyncMemberRegister.registerAsync(MemberFixture.createMemberRegisterRequest("async@splearn.app"));
+        Long memberId = registered.join().getId();
+
+        // when
+        CompletableFuture<Member> found = asyncMemberFinder.findAsync(memberId);
+        CompletableFuture<Map<Long, Member>> foundAll = asyncMemberFinder.findAllAsync(List.of(memberId));
+
+        // then
+        assertThat(registered).isCompleted();
+        assertThat(found).isCompleted();
+        assertThat(found.join().getEmail().address()).isEqualTo("async@splearn.app");
+        assertThat(foundAll.join()).containsOnlyKeys(memberId);
+    }
+
+    @DisplayName("실패는 예외를 던지지 않고 future 로 전달한다.")
+    @Test
+    void failure() {
+        // given // when
+        CompletableFuture<Member> found = asyncMemberFinder.findAsync(-1L);
+
+        // then
+        assertThat(found).isCompletedExceptionally();
+        assertThat(found.exceptionNow()).isInstanceOf(MemberNotFoundException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberLoginRequest;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "splearn.member.authentication.email-capacity=3",
+        "splearn.member.authentication.email-refill-interval=1h"
+})
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record MemberAuthenticatorTest(MemberAuthenticator memberAuthenticator, MemberRegister memberRegister,
+                               MeterRegistry meterRegistry, EntityManager entityManager) {
+
+    @DisplayName("활성 회원은 이메일과 비밀번호로 로그인하고, 같은 조합은 다시 해시 비교하지 않는다.")
+    @Test
+    void authenticate() {
+        // given
+        Member member = activeMember("login@splearn.app");
+        double hits = verifiedCacheHits();
+
+        // when
+        Member first = memberAuthenticator.authenticate(new MemberLoginRequest("login@splearn.app", "passwordSecret"), "10.0.0.1");
+        Member second = memberAuthenticator.authenticate(new MemberLoginRequest("login@splearn.app", "passwordSecret"), "10.0.0.1");
+
+        // then
+        assertThat(first.getId()).isEqualTo(member.getId());
+        assertThat(second.getId()).isEqualTo(member.getId());
+        assertThat(verifiedCacheHits()).isEqualTo(hits + 1);
+    }
+
+    @DisplayName("비밀번호가 틀리거나, 없는 이메일이거나, 활성 회원이 아니면 같은 이유로 실패한다.")
+    @Test
+    void authenticateFail() {
+        // given
+        activeMember("wrong@splearn.app");
+        memberRegister.register(MemberFixture.createMemberRegisterRequest("pending@splearn.app"));
+        entityManager.flush();
+
+        // when // then
+        assertThatThrownBy(() -> memberAuthenticator.authenticate(new MemberLoginRequest("wrong@splearn.app", "wrongSecret"), "10.0.0.2"))
+                .isInstanceOf(MemberAuthenticationException.class);
+        assertThatThrownBy(() -> memberAuthenticator.authenticate(new MemberLoginRequest("nobody@splearn.app", "passwordSecret"), "10.0.0.2"))
+                .isInstanceOf(MemberAuthenticationException.class);
+        assertThatThrownBy(() -> memberAuthenticator.authenticate(new MemberLoginRequest("pending@splearn.app", "passwordSecret"), "10.0.0.2"))
+                .isInstanceOf(MemberAuthenticationException.class);
+        assertThatThrownBy(() -> memberAuthenticator.authenticate(new MemberLoginRequest("not-an-email", "passwordSecret"), "10.0.0.2"))
+                .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @DisplayName("한 이메일로 허용된 횟수를 넘겨 시도하면 비밀번호를 확인하기 전에 거절한다.")
+    @Test
+    void throttle() {
+        // given
+        activeMember("throttle@splearn.app");
+        MemberLoginRequest wrong = new MemberLoginRequest("throttle@splearn.app", "wrongSecret");
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> memberAuthenticator.authenticate(wrong, "10.0.0.3"))
+                    .isInstanceOf(MemberAuthenticationException.class);
+        }
+
+        // when // then
+        assertThatThrownBy(() -> memberAuthenticator.authenticate(new MemberLoginRequest("throttle@splearn.app", "passwordSecret"), "10.0.0.4"))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfter()).isPositive());
+    }
+
+    private Member activeMember(String email) {
+        Member member = memberRegister.register(MemberFixture.createMemberRegisterRequest(email));
+        memberRegister.activate(member.getId());
+        entityManager.flush();
+        return member;
+    }
+
+    private double verifiedCacheHits() {
+        FunctionCounter hits = meterRegistry.find("cache.gets")
+                .tags("cache", "member-verified-credentials", "result", "hit")
+                .functionCounter();
+        return hits == null ? 0 : hits.count();
+    }
+}
@@ -0,0 +1,48 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberExportRow;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record MemberExporterTest(MemberExporter memberExporter, MemberRegister memberRegister, EntityManager entityManager) {
+
+    @DisplayName("상태가 일치하는 회원을 id 순으로 한 건씩 넘긴다.")
+    @Test
+    void export() {
+        // given
+        Member pending = memberRegister.register(MemberFixture.createMemberRegisterRequest("export1@splearn.app"));
+        Member active = memberRegister.register(MemberFixture.createMemberRegisterRequest("export2@splearn.app"));
+        memberRegister.activate(active.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MemberExportRow> all = new ArrayList<>();
+        long count = memberExporter.export(null, all::add);
+
+        List<MemberExportRow> actives = new ArrayList<>();
+        memberExporter.export(MemberStatus.ACTIVE, actives::add);
+
+        // then
+        assertThat(count).isEqualTo(all.size());
+        assertThat(all).extracting(MemberExportRow::id).isSorted().contains(pending.getId(), active.getId());
+        assertThat(actives).extracting(MemberExportRow::id).contains(active.getId()).doesNotContain(pending.getId());
+        assertThat(actives).allSatisfy(row -> assertThat(row.activatedAt()).isNotNull());
+    }
+}
@@ -3,6 +3,10 @@ package com.clean.splearn.application.member.provided;
 import com.clean.splearn.SplearnTestConfiguration;
 import com.clean.splearn.domain.member.Member;
 import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberPage;
+import com.clean.splearn.domain.member.MemberSearchCondition;
+import com.clean.splearn.domain.member.MemberStatus;
+import com.clean.splearn.domain.member.MemberSummary;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +14,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -32,6 +40,96 @@ record MemberFinderTest(MemberFinder memberFinder, MemberRegister memberRegister
         assertThat(member.getId()).isEqualTo(findMember.getId());
     }
 
+    @DisplayName("회원 요약을 조회한다.")
+    @Test
+    void findSummary() {
+        // given
+        Member member = memberRegister.register(MemberFixture.createMemberRegisterRequest());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        MemberSummary summary = memberFinder.findSummary(member.getId());
+
+        // then
+        assertThat(summary.id()).isEqualTo(member.getId());
+        assertThat(summary.email()).isEqualTo(member.getEmail().address());
+        assertThat(summary.status()).isEqualTo(MemberStatus.PENDING);
+    }
+
+    @DisplayName("회원 버전만 조회한다. 상태가 바뀌면 버전이 오른다.")
+    @Test
+    void findVersion() {
+        // given
+        Member member = memberRegister.register(MemberFixture.createMemberRegisterRequest());
+        entityManager.flush();
+        long registered = memberFinder.findVersion(member.getId());
+
+        // when
+        memberRegister.activate(member.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(memberFinder.findVersion(member.getId())).isGreaterThan(registered);
+        assertThatThrownBy(() -> memberFinder.findVersion(-1L)).isInstanceOf(MemberNotFoundException.class);
+    }
+
+    @DisplayName("여러 회원을 한 번에 조회하고, 없는 id 는 빼고 요청한 순서대로 돌려준다.")
+    @Test
+    void findAll() {
+        // given
+        Member first = memberRegister.register(MemberFixture.createMemberRegisterRequest("all1@splearn.app"));
+        Member second = memberRegister.register(MemberFixture.createMemberRegisterRequest("all2@splearn.app"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Map<Long, Member> members = memberFinder.findAll(List.of(second.getId(), -1L, first.getId(), second.getId()));
+        Map<Long, MemberSummary> summaries = memberFinder.findSummaries(List.of(first.getId(), -1L));
+
+        // then
+        assertThat(members).containsOnlyKeys(second.getId(), first.getId());
+        assertThat(members.keySet()).containsExactly(second.getId(), first.getId());
+        assertThat(members.get(first.getId()).getDetail().getRegisteredAt()).isNotNull();
+        assertThat(summaries).containsOnlyKeys(first.getId());
+        assertThat(summaries.get(first.getId()).email()).isEqualTo("all1@splearn.app");
+    }
+
+    @DisplayName("조건에 맞는 회원을 id 순으로 커서를 따라 페이지 단위로 조회한다.")
+    @Test
+    void search() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Member member = memberRegister.register(MemberFixture.createMemberRegisterRequest("search" + i + "@splearn.app"));
+            if (i % 2 == 0) memberRegister.activate(member.getId());
+            ids.add(member.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        MemberSearchCondition condition = new MemberSearchCondition(null, null, null, "search", null);
+
+        // when
+        List<Long> found = new ArrayList<>();
+        Long cursor = null;
+        do {
+            MemberPage page = memberFinder.search(condition, cursor, 2);
+            assertThat(page.members()).hasSizeLessThanOrEqualTo(2);
+            page.members().forEach(member -> found.add(member.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(found).containsExactlyElementsOf(ids);
+        assertThat(memberFinder.search(new MemberSearchCondition(MemberStatus.ACTIVE, null, null, "search", null), null, 10).members())
+                .extracting(MemberSummary::id)
+                .containsExactly(ids.get(1), ids.get(3));
+        assertThat(memberFinder.search(new MemberSearchCondition(null, null, null, "search_", null), null, 10).members())
+                .isEmpty();
+    }
+
     @DisplayName("없는 ID 회원 조회시 에러가 발생한다")
     @Test
     void findFail() {
@@ -0,0 +1,97 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.application.member.required.MemberRepository;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberImportError;
+import com.clean.splearn.domain.member.MemberImportLine;
+import com.clean.splearn.domain.member.MemberImportReport;
+import com.clean.splearn.domain.member.MemberRegisterRequest;
+import com.clean.splearn.domain.shared.Email;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "splearn.member.import.chunk-size=2")
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record MemberImporterTest(MemberImporter memberImporter, MemberRegister memberRegister, MemberRepository memberRepository,
+                          EntityManager entityManager) {
+
+    @DisplayName("행을 청크로 나눠 등록하고, 잘못되었거나 중복된 행은 행 번호와 사유를 남긴다.")
+    @Test
+    void importMembers() {
+        // given
+        memberRegister.register(MemberFixture.createMemberRegisterRequest("registered@splearn.app"));
+        entityManager.flush();
+
+        List<MemberImportLine> lines = List.of(
+                MemberImportLine.of(1, MemberFixture.createMemberRegisterRequest("import1@splearn.app")),
+                MemberImportLine.of(2, MemberFixture.createMemberRegisterRequest("registered@splearn.app")),
+                MemberImportLine.unreadable(3, "JSON 형식이 아닙니다"),
+                MemberImportLine.of(4, new MemberRegisterRequest("import2@splearn.app", "Toby", "secret")),
+                MemberImportLine.of(5, MemberFixture.createMemberRegisterRequest("import1@splearn.app"))
+        );
+
+        // when
+        MemberImportReport report = memberImporter.importMembers("job-1", false, lines.iterator());
+
+        // then
+        assertThat(report.processed()).isEqualTo(5);
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(4);
+        assertThat(report.errors()).extracting(MemberImportError::line).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(memberRepository.findByEmail(new Email("import1@splearn.app"))).isPresent();
+    }
+
+    @DisplayName("같은 작업을 다시 실행하면 커밋된 행은 건너뛰고 이어서 등록한다.")
+    @Test
+    void resume() {
+        // given
+        memberImporter.importMembers("job-2", false, List.of(
+                MemberImportLine.of(1, MemberFixture.createMemberRegisterRequest("resume1@splearn.app")),
+                MemberImportLine.of(2, MemberFixture.createMemberRegisterRequest("resume2@splearn.app"))
+        ).iterator());
+
+        // when
+        MemberImportReport report = memberImporter.importMembers("job-2", false, List.of(
+                MemberImportLine.of(1, MemberFixture.createMemberRegisterRequest("resume1@splearn.app")),
+                MemberImportLine.of(2, MemberFixture.createMemberRegisterRequest("resume2@splearn.app")),
+                MemberImportLine.of(3, MemberFixture.createMemberRegisterRequest("resume3@splearn.app"))
+        ).iterator());
+
+        // then
+        assertThat(report.resumedAfter()).isEqualTo(2);
+        assertThat(report.processed()).isEqualTo(1);
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).isEmpty();
+    }
+
+    @DisplayName("해시된 비밀번호를 받으면 다시 해시하지 않고 그대로 저장한다. 비어 있거나 형식을 알 수 없는 해시는 거른다.")
+    @Test
+    void importPreHashed() {
+        // given
+        String passwordHash = "{bcrypt}$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+        // when
+        MemberImportReport report = memberImporter.importMembers("job-3", true, List.of(
+                MemberImportLine.of(1, new MemberRegisterRequest("hashed@splearn.app", "hashed", passwordHash)),
+                MemberImportLine.of(2, new MemberRegisterRequest("empty@splearn.app", "empty", "")),
+                MemberImportLine.of(3, new MemberRegisterRequest("md5@splearn.app", "md5", "5f4dcc3b5aa765d61d8327deb882cf99")),
+                MemberImportLine.of(4, new MemberRegisterRequest("broken@splearn.app", "broken", "{bcrypt}$2a$10$short"))
+        ).iterator());
+
+        // then
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).extracting(MemberImportError::line).containsExactly(2L, 3L, 4L);
+        assertThat(memberRepository.findByEmail(new Email("hashed@splearn.app")).orElseThrow().getPasswordHash())
+                .isEqualTo(passwordHash);
+    }
+}
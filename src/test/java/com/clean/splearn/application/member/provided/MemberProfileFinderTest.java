@@ -0,0 +1,75 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.application.member.MemberProfileProjection;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberInfoUpdateRequest;
+import com.clean.splearn.domain.member.MemberProfileSummary;
+import com.clean.splearn.domain.member.Profile;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record MemberProfileFinderTest(MemberProfileFinder memberProfileFinder, MemberProfileProjection memberProfileProjection,
+                               MemberRegister memberRegister, EntityManager entityManager) {
+
+    @DisplayName("정보를 수정하면 읽기 모델이 바뀌고, 비활성화하면 프로필을 찾을 수 없다.")
+    @Test
+    void followMemberEvents() {
+        // given
+        Member member = activeMember("profile@splearn.app");
+
+        // when
+        memberRegister.updateInfo(member.getId(), new MemberInfoUpdateRequest("David", "jsjang", "자기소개"));
+        entityManager.flush();
+        MemberProfileSummary found = memberProfileFinder.find(new Profile("jsjang"));
+
+        memberRegister.updateInfo(member.getId(), new MemberInfoUpdateRequest("Davidson", "jsjang2", "바뀐 소개"));
+        entityManager.flush();
+        MemberProfileSummary changed = memberProfileFinder.find(new Profile("jsjang2"));
+
+        // then
+        assertThat(found).isEqualTo(new MemberProfileSummary(member.getId(), "David", "jsjang", "자기소개"));
+        assertThat(changed).isEqualTo(new MemberProfileSummary(member.getId(), "Davidson", "jsjang2", "바뀐 소개"));
+        assertThatThrownBy(() -> memberProfileFinder.find(new Profile("jsjang")))
+                .isInstanceOf(MemberNotFoundException.class);
+
+        memberRegister.deactivate(member.getId());
+        entityManager.flush();
+        assertThatThrownBy(() -> memberProfileFinder.find(new Profile("jsjang2")))
+                .isInstanceOf(MemberNotFoundException.class);
+    }
+
+    @DisplayName("읽기 모델을 지우고 회원 테이블에서 다시 만든다.")
+    @Test
+    void rebuild() {
+        // given
+        Member member = activeMember("rebuild@splearn.app");
+        memberRegister.updateInfo(member.getId(), new MemberInfoUpdateRequest("David", "rebuild", "자기소개"));
+        entityManager.flush();
+
+        // when
+        int rebuilt = memberProfileProjection.rebuild();
+
+        // then
+        assertThat(rebuilt).isPositive();
+        assertThat(memberProfileFinder.find(new Profile("rebuild")).memberId()).isEqualTo(member.getId());
+    }
+
+    private Member activeMember(String email) {
+        Member member = memberRegister.register(MemberFixture.createMemberRegisterRequest(email));
+        memberRegister.activate(member.getId());
+        entityManager.flush();
+        return member;
+    }
+}
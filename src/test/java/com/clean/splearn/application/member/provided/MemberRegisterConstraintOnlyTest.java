@@ -0,0 +1,51 @@
+package com.clean.splearn.application.member.provided;
+
+import com.clean.splearn.SplearnTestConfiguration;
+import com.clean.splearn.domain.member.DuplicateEmailException;
+import com.clean.splearn.domain.member.DuplicateProfileException;
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberFixture;
+import com.clean.splearn.domain.member.MemberInfoUpdateRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "splearn.member.registration.constraint-only=true")
+@Transactional
+@Import(SplearnTestConfiguration.class)
+record MemberRegisterConstraintOnlyTest(MemberRegister memberRegister, EntityManager entityManager) {
+
+    @DisplayName("미리 조회하지 않아도 이메일 유니크 제약조건 위반을 중복 이메일 예외로 알린다.")
+    @Test
+    void duplicateEmail() {
+        memberRegister.register(MemberFixture.createMemberRegisterRequest());
+
+        assertThatThrownBy(() -> memberRegister.register(MemberFixture.createMemberRegisterRequest()))
+                .isInstanceOf(DuplicateEmailException.class);
+    }
+
+    @DisplayName("미리 조회하지 않아도 프로필 주소 유니크 제약조건 위반을 중복 프로필 예외로 알린다.")
+    @Test
+    void duplicateProfile() {
+        Member member = registerAndActivate("toby@splearn.app");
+        memberRegister.updateInfo(member.getId(), new MemberInfoUpdateRequest("David", "a1b1", "방가방가"));
+
+        Member other = registerAndActivate("toby2@splearn.app");
+
+        assertThatThrownBy(() -> memberRegister.updateInfo(other.getId(), new MemberInfoUpdateRequest("David", "a1b1", "방가방가")))
+                .isInstanceOf(DuplicateProfileException.class);
+    }
+
+    private Member registerAndActivate(String email) {
+        Member member = memberRegister.register(MemberFixture.createMemberRegisterRequest(email));
+        memberRegister.activate(member.getId());
+        entityManager.flush();
+        entityManager.clear();
+        return member;
+    }
+}
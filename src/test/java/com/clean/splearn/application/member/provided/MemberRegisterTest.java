@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -36,6 +38,38 @@ record MemberRegisterTest(MemberRegister memberRegister, EntityManager entityMan
                 .isInstanceOf(DuplicateEmailException.class);
     }
 
+    @DisplayName("여러 회원을 한 번에 등록하고, 잘못되었거나 중복된 요청은 사유와 함께 실패로 남긴다.")
+    @Test
+    void registerAll() {
+        // given
+        memberRegister.register(MemberFixture.createMemberRegisterRequest("registered@splearn.app"));
+        entityManager.flush();
+
+        List<MemberRegisterRequest> requests = List.of(
+                MemberFixture.createMemberRegisterRequest("bulk1@splearn.app"),
+                MemberFixture.createMemberRegisterRequest("registered@splearn.app"),
+                new MemberRegisterRequest("bulk2@splearn.app", "Toby", "secret"),
+                MemberFixture.createMemberRegisterRequest("bulk3@splearn.app"),
+                MemberFixture.createMemberRegisterRequest("bulk1@splearn.app")
+        );
+
+        // when
+        List<MemberRegisterResult> results = memberRegister.registerAll(requests);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(results).extracting(MemberRegisterResult::email)
+                .containsExactly("bulk1@splearn.app", "registered@splearn.app", "bulk2@splearn.app",
+                        "bulk3@splearn.app", "bulk1@splearn.app");
+        assertThat(results).extracting(MemberRegisterResult::isSuccess)
+                .containsExactly(true, false, false, true, false);
+        assertThat(results.get(2).failure()).contains("nickname", "password");
+
+        Long memberId = results.getFirst().member().getId();
+        assertThat(entityManager.find(Member.class, memberId).getStatus()).isEqualTo(MemberStatus.PENDING);
+    }
+
     @DisplayName("회원 생성에 실패한다.")
     @Test
     void memberRegisterRequestFail() {
@@ -105,6 +139,25 @@ record MemberRegisterTest(MemberRegister memberRegister, EntityManager entityMan
         assertThat(member.getDetail().getIntroduction()).isEqualTo(memberInfoUpdateRequest.introduction());
     }
 
+    @DisplayName("알고 있는 버전이 현재 버전과 같을 때만 회원 정보를 업데이트 한다.")
+    @Test
+    void updateInfoWithVersion() {
+        // given
+        Member member = registerMember();
+        memberRegister.activate(member.getId());
+        entityManager.flush();
+        entityManager.clear();
+        Long currentVersion = entityManager.find(Member.class, member.getId()).getVersion();
+        MemberInfoUpdateRequest request = new MemberInfoUpdateRequest("David", "version", "방가방가");
+
+        // when // then
+        assertThatThrownBy(() -> memberRegister.updateInfo(member.getId(), currentVersion + 1, request))
+                .isInstanceOf(MemberVersionConflictException.class);
+
+        Member updated = memberRegister.updateInfo(member.getId(), currentVersion, request);
+        assertThat(updated.getDetail().getProfile().address()).isEqualTo("version");
+    }
+
     @DisplayName("같은 프로필로 업데이트 할 수 없다.")
     @Test
     void updateInfoFail() {
@@ -0,0 +1,67 @@
+package com.clean.splearn.application.member.required;
+
+import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberEvent;
+import com.clean.splearn.domain.member.MemberEventType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static com.clean.splearn.domain.member.MemberFixture.createMemberRegisterRequest;
+import static com.clean.splearn.domain.member.MemberFixture.createPasswordEncoder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class MemberEventRepositoryTest {
+    @Autowired
+    MemberEventRepository memberEventRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @DisplayName("발행되지 않은 이벤트만 오래된 순서로 가져온다.")
+    @Test
+    void findUnpublished() {
+        // given
+        Member member = memberRepository.save(Member.register(createMemberRegisterRequest(), createPasswordEncoder()));
+        MemberEvent registered = memberEventRepository.save(MemberEvent.of(member, MemberEventType.REGISTERED));
+        MemberEvent activated = memberEventRepository.save(MemberEvent.of(member, MemberEventType.ACTIVATED));
+        MemberEvent published = memberEventRepository.save(MemberEvent.of(member, MemberEventType.DEACTIVATED));
+        published.markPublished();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MemberEvent> events = memberEventRepository.findByPublishedAtIsNullOrderById(Limit.of(10));
+
+        // then
+        assertThat(events).extracting(MemberEvent::getId)
+                .containsExactly(registered.getId(), activated.getId());
+    }
+
+    @DisplayName("한 번에 가져오는 이벤트 수를 제한한다.")
+    @Test
+    void findUnpublishedWithLimit() {
+        // given
+        Member member = memberRepository.save(Member.register(createMemberRegisterRequest(), createPasswordEncoder()));
+        memberEventRepository.save(MemberEvent.of(member, MemberEventType.REGISTERED));
+        memberEventRepository.save(MemberEvent.of(member, MemberEventType.ACTIVATED));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MemberEvent> events = memberEventRepository.findByPublishedAtIsNullOrderById(Limit.of(1));
+
+        // then
+        assertThat(events).extracting(MemberEvent::getType)
+                .containsExactly(MemberEventType.REGISTERED);
+    }
+}
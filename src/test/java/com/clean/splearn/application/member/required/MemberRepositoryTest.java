@@ -1,13 +1,24 @@
 package com.clean.splearn.application.member.required;
 
 import com.clean.splearn.domain.member.Member;
+import com.clean.splearn.domain.member.MemberInfoUpdateRequest;
 import com.clean.splearn.domain.member.MemberStatus;
+import com.clean.splearn.domain.member.MemberSummary;
+import com.clean.splearn.domain.member.Profile;
+import com.clean.splearn.domain.shared.Email;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static com.clean.splearn.domain.member.MemberFixture.createMemberRegisterRequest;
 import static com.clean.splearn.domain.member.MemberFixture.createPasswordEncoder;
@@ -15,7 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
-@DataJpaTest
+@DataJpaTest(properties = "splearn.jpa.statistics=true")
 class MemberRepositoryTest {
     @Autowired
     MemberRepository memberRepository;
@@ -23,6 +34,9 @@ class MemberRepositoryTest {
     @Autowired
     EntityManager entityManager;
 
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     @DisplayName("회원을 등록한다.")
     @Test
     void createMember() {
@@ -44,6 +58,82 @@ class MemberRepositoryTest {
         assertThat(found.getDetail().getRegisteredAt()).isNotNull();
     }
 
+    @DisplayName("이메일(natural id)로 회원을 조회한다.")
+    @Test
+    void findByNaturalId() {
+        // given
+        Member member = memberRepository.save(Member.register(createMemberRegisterRequest(), createPasswordEncoder()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        var found = memberRepository.findByNaturalId(member.getEmail());
+
+        // then
+        assertThat(found).map(Member::getId).contains(member.getId());
+        assertThat(memberRepository.findByNaturalId(new Email("nobody@splearn.app"))).isEmpty();
+    }
+
+    @DisplayName("커밋된 회원을 이메일(natural id)로 다시 찾으면 2차 캐시에서 꺼낸다.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findByNaturalIdFromCache() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Member member = transactionTemplate.execute(status -> memberRepository.save(
+                Member.register(createMemberRegisterRequest("cached@splearn.app"), createPasswordEncoder())));
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        try {
+            // when
+            memberRepository.findByNaturalId(member.getEmail());
+            memberRepository.findByNaturalId(member.getEmail());
+
+            // then
+            assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+            assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> entityManager.remove(entityManager.find(Member.class, member.getId())));
+        }
+    }
+
+    @DisplayName("엔티티 없이 회원 요약을 조회할 수 있다.")
+    @Test
+    void summary() {
+        // given
+        Member member = memberRepository.save(Member.register(createMemberRegisterRequest(), createPasswordEncoder()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        MemberSummary summary = memberRepository.findSummaryById(member.getId()).orElseThrow();
+
+        // then
+        assertThat(summary).isEqualTo(new MemberSummary(member.getId(), member.getEmail().address(),
+                member.getNickname(), MemberStatus.PENDING));
+    }
+
+    @DisplayName("프로필 주소가 이미 쓰이는지 확인하고, 회원 상세와 함께 회원을 조회할 수 있다.")
+    @Test
+    void profileExistsAndFindWithDetail() {
+        // given
+        Member member = Member.register(createMemberRegisterRequest(), createPasswordEncoder());
+        member.activate();
+        member.updateInfo(new MemberInfoUpdateRequest("David", "jsjang", "자기소개"));
+        memberRepository.save(member);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Member found = memberRepository.findWithDetailById(member.getId()).orElseThrow();
+
+        // then
+        assertThat(memberRepository.existsByDetailProfile(new Profile("jsjang"))).isTrue();
+        assertThat(memberRepository.existsByDetailProfile(new Profile("nobody"))).isFalse();
+        assertThat(Hibernate.isInitialized(found.getDetail())).isTrue();
+    }
+
     @DisplayName("같은 이메일을 가진 회원를 생성할 경우 실패한다.")
     @Test
     void duplicateEmailFail() {
@@ -55,8 +145,10 @@ class MemberRepositoryTest {
         Member member2 = Member.register(createMemberRegisterRequest(), createPasswordEncoder());
 
         // then
-        assertThatThrownBy(() -> memberRepository.save(member2))
-                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> {
+            memberRepository.save(member2);
+            memberRepository.flush();
+        }).isInstanceOf(DataIntegrityViolationException.class);
 
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.clean.splearn.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+    @DisplayName("ID 에는 시간과 노드 번호가 담긴다.")
+    @Test
+    void layout() {
+        // given
+        long now = TimeOrderedIdGenerator.EPOCH + 1234;
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, () -> now);
+
+        // when
+        long id = generator.next();
+
+        // then
+        assertThat(id >>> 22).isEqualTo(1234);
+        assertThat((id >>> 12) & TimeOrderedIdGenerator.MAX_NODE).isEqualTo(7);
+        assertThat(id & 0xFFF).isZero();
+    }
+
+    @DisplayName("같은 ms 에 순번을 다 쓰거나 시계가 뒤로 가도 ID 는 계속 증가한다.")
+    @Test
+    void monotonic() {
+        // given
+        AtomicLong clock = new AtomicLong(TimeOrderedIdGenerator.EPOCH + 1000);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+
+        // when // then
+        long previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) clock.addAndGet(-500);
+
+            long id = generator.next();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @DisplayName("여러 스레드에서 동시에 만들어도 ID 가 겹치지 않는다.")
+    @Test
+    void concurrent() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) ids.add(generator.next());
+                });
+            }
+        }
+
+        // then
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @DisplayName("노드 번호는 10비트를 넘을 수 없다.")
+    @Test
+    void nodeOutOfRange() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("TIME_ORDERED 에서는 노드 번호를 지정하지 않으면 설정을 만들 수 없다.")
+    @Test
+    void timeOrderedRequiresNode() {
+        assertThatThrownBy(() -> new IdGenerationProperties(IdStrategy.TIME_ORDERED, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdGenerationProperties(IdStrategy.TIME_ORDERED, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(new IdGenerationProperties(IdStrategy.TIME_ORDERED, 3).node()).isEqualTo(3);
+        assertThat(new IdGenerationProperties(IdStrategy.SEQUENCE, null).node()).isNull();
+    }
+}
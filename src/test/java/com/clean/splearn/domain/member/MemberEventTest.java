@@ -0,0 +1,66 @@
+package com.clean.splearn.domain.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberEventTest {
+    @DisplayName("회원 이벤트는 발행되지 않은 상태로 만들어진다.")
+    @Test
+    void of() {
+        // given
+        Member member = MemberFixture.createMember(1L);
+
+        // when
+        MemberEvent event = MemberEvent.of(member, MemberEventType.REGISTERED);
+
+        // then
+        assertThat(event.getMemberId()).isEqualTo(1L);
+        assertThat(event.getEmail()).isEqualTo(member.getEmail());
+        assertThat(event.getOccurredAt()).isNotNull();
+        assertThat(event.isPublished()).isFalse();
+    }
+
+    @DisplayName("저장되지 않은 회원의 이벤트는 만들 수 없다.")
+    @Test
+    void ofFail() {
+        // given // when // then
+        assertThatThrownBy(() -> MemberEvent.of(MemberFixture.createMember(), MemberEventType.REGISTERED))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @DisplayName("이벤트는 한 번만 발행 완료로 표시할 수 있다.")
+    @Test
+    void markPublished() {
+        // given
+        MemberEvent event = MemberEvent.of(MemberFixture.createMember(1L), MemberEventType.REGISTERED);
+
+        // when
+        event.markPublished();
+
+        // then
+        assertThat(event.isPublished()).isTrue();
+        assertThatThrownBy(event::markPublished)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("전달에 실패하면 시도 횟수를 세고 다음 시도 시각까지 미룬다.")
+    @Test
+    void recordFailure() {
+        // given
+        MemberEvent event = MemberEvent.of(MemberFixture.createMember(1L), MemberEventType.REGISTERED);
+
+        // when
+        event.recordFailure(Duration.ofMinutes(1));
+
+        // then
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(event.isPublished()).isFalse();
+    }
+}
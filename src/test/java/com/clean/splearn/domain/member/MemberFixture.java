@@ -22,6 +22,12 @@ public class MemberFixture {
             public boolean matches(String password, String passwordHash) {
                 return encode(password).equals(passwordHash);
             }
+
+            @Override
+            public boolean isRecognizedHash(String passwordHash) {
+                return !passwordHash.isBlank() && passwordHash.equals(passwordHash.toUpperCase())
+                        || passwordHash.matches("\\{bcrypt}\\$2[abxy]?\\$\\d\\d\\$[./A-Za-z0-9]{53}");
+            }
         };
     }
 
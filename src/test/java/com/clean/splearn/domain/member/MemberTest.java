@@ -97,6 +97,32 @@ class MemberTest {
         assertThat(member.verifyPassword("verySecret", passwordEncoder)).isTrue();
     }
 
+    @DisplayName("비밀번호 해시를 다시 만들어야 하는지 인코더에게 확인한다")
+    @Test
+    void needsPasswordUpgrade() {
+        // given
+        PasswordEncoder upgradingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(String password) {
+                return passwordEncoder.encode(password);
+            }
+
+            @Override
+            public boolean matches(String password, String passwordHash) {
+                return passwordEncoder.matches(password, passwordHash);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String passwordHash) {
+                return true;
+            }
+        };
+
+        // when // then
+        assertThat(member.needsPasswordUpgrade(passwordEncoder)).isFalse();
+        assertThat(member.needsPasswordUpgrade(upgradingEncoder)).isTrue();
+    }
+
     @DisplayName("회원의 활성화 여부를 판단할 수 있다")
     @Test
     void isActive() {
@@ -144,4 +170,51 @@ class MemberTest {
                 .isInstanceOf(IllegalStateException.class);
     }
 
-}
\ No newline at end of file
+    @DisplayName("해시된 비밀번호로 등록하면 해시를 다시 만들지 않고 그대로 검증에 쓴다.")
+    @Test
+    void registerWithPasswordHash() {
+        // given
+        String passwordHash = passwordEncoder.encode("verysecret");
+
+        // when
+        Member imported = Member.registerWithPasswordHash("import@splearn.app", "importer", passwordHash, passwordEncoder);
+
+        // then
+        assertThat(imported.getStatus()).isEqualTo(MemberStatus.PENDING);
+        assertThat(imported.getPasswordHash()).isEqualTo(passwordHash);
+        assertThat(imported.verifyPassword("verysecret", passwordEncoder)).isTrue();
+        assertThatThrownBy(() -> Member.registerWithPasswordHash("import@splearn.app", "importer", " ", passwordEncoder))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> Member.registerWithPasswordHash("import@splearn.app", "importer", "plain secret", passwordEncoder))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("미리 해시해 둔 비밀번호로 등록하면 다시 해시하지 않는다.")
+    @Test
+    void registerWithEncodedPassword() {
+        // given
+        String passwordHash = passwordEncoder.encode("verysecret");
+
+        // when
+        Member registered = Member.registerWithEncodedPassword(MemberFixture.createMemberRegisterRequest(), passwordHash);
+
+        // then
+        assertThat(registered.getStatus()).isEqualTo(MemberStatus.PENDING);
+        assertThat(registered.getPasswordHash()).isEqualTo(passwordHash);
+        assertThatThrownBy(() -> Member.registerWithEncodedPassword(MemberFixture.createMemberRegisterRequest(), " "))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("대기 상태의 회원을 만료시키면 EXPIRED 상태가 되고, 다른 상태에서는 에러가 발생한다.")
+    @Test
+    void expire() {
+        // given // when
+        member.expire();
+
+        // then
+        assertThat(member.getStatus()).isEqualTo(MemberStatus.EXPIRED);
+        assertThat(member.getDetail().getDeactivatedAt()).isNotNull();
+        assertThatThrownBy(member::expire).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(member::activate).isInstanceOf(IllegalStateException.class);
+    }
+}
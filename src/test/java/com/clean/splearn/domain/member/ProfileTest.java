@@ -1,7 +1,11 @@
 package com.clean.splearn.domain.member;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -32,4 +36,23 @@ class ProfileTest {
 
         assertThat(profile.url()).isEqualTo("@tobyilee");
     }
-}
\ No newline at end of file
+
+    @DisplayName("이전 정규식과 같은 결과를 낸다.")
+    @Test
+    void sameAsRegex() {
+        Pattern profilePattern = Pattern.compile("[a-z0-9]+");
+        String alphabet = "az09AZ-_.한 ";
+        Random random = new Random(20251018);
+
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            String address = builder.toString();
+
+            assertThat(Profile.isValid(address))
+                    .as(address)
+                    .isEqualTo(profilePattern.matcher(address).matches());
+        }
+    }
+}
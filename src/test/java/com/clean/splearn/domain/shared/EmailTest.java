@@ -3,9 +3,22 @@ package com.clean.splearn.domain.shared;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class EmailTest {
+    // 스캐너로 바꾸기 전에 쓰던 정규식. 차등 퍼징의 기준이다.
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+
+    private static final String ALPHABET = "azAZ09._+&*-@@..-é \n";
+    private static final List<String> SEEDS = List.of(
+            "jsjangdv@gmail.com", "first.last+tag@mail.splearn.co.kr", "a_b&c*d-e@x-y.io", "toby@splearn.app");
+
     @DisplayName("이메일 동등성 확인")
     @Test
     void equality() {
@@ -17,4 +30,53 @@ class EmailTest {
         assertThat(email1).isEqualTo(email2);
     }
 
+    @DisplayName("형식에 맞지 않는 이메일은 만들 수 없다.")
+    @Test
+    void invalid() {
+        for (String address : List.of("", "@gmail.com", "jsjang@", "jsjang@gmail", "jsjang@gmail.c", "jsjang@gmail.abcdefgh",
+                ".jsjang@gmail.com", "js..jang@gmail.com", "jsjang.@gmail.com", "jsjang@.gmail.com", "jsjang@gmail..com",
+                "jsjang@gmail.com.", "js@jang@gmail.com", "jsjang@gmail.c0m", "jsjang@gmail.com\n", "js jang@gmail.com")) {
+            assertThatThrownBy(() -> new Email(address)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("이전 정규식과 같은 결과를 낸다.")
+    @Test
+    void sameAsRegex() {
+        Random random = new Random(20251018);
+
+        for (int i = 0; i < 200_000; i++) {
+            String address = i % 2 == 0 ? randomString(random) : mutate(SEEDS.get(random.nextInt(SEEDS.size())), random);
+
+            assertThat(Email.isValid(address))
+                    .as(address)
+                    .isEqualTo(EMAIL_PATTERN.matcher(address).matches());
+        }
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(24);
+        for (int i = 0; i < length; i++) builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        return builder.toString();
+    }
+
+    private static String mutate(String seed, Random random) {
+        StringBuilder builder = new StringBuilder(seed);
+        int mutations = 1 + random.nextInt(3);
+        for (int i = 0; i < mutations; i++) {
+            int position = random.nextInt(builder.length() + 1);
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(3)) {
+                case 0 -> builder.insert(position, c);
+                case 1 -> {
+                    if (position < builder.length()) builder.deleteCharAt(position);
+                }
+                default -> {
+                    if (position < builder.length()) builder.setCharAt(position, c);
+                }
+            }
+        }
+        return builder.toString();
+    }
 }